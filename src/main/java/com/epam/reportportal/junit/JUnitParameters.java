@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.junit.utils.StackTraceCompactor;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * JUnit agent specific parameters. The values are read from <code>reportportal.properties</code> file and can be overridden with
+ * JVM system properties.
+ */
+public class JUnitParameters {
+
+	/**
+	 * Use fixed-size fingerprints of a test identity and its parameters as Item Tree keys instead of full strings
+	 */
+	public static final String ITEM_KEY_FINGERPRINT = "rp.junit.item.key.fingerprint";
+
+	/**
+	 * Store test statuses in a primitive array indexed by dense test ordinals instead of maps by Item Tree keys
+	 */
+	public static final String DENSE_TEST_STATUS = "rp.junit.test.status.dense";
+
+	/**
+	 * Remove finished items from Item Tree, so it holds only items which are still running
+	 */
+	public static final String ITEM_TREE_PRUNE = "rp.junit.item.tree.prune";
+
+	/**
+	 * Maximum length of a test parameter value reported to ReportPortal, longer values are truncated. Zero or a negative value
+	 * disables the limit and parameters are converted with their <code>toString</code> method as is
+	 */
+	public static final String PARAMETER_MAX_LENGTH = "rp.junit.parameter.max.length";
+
+	/**
+	 * Maximum depth of nested arrays, collections and maps inside a test parameter value which are rendered element by element.
+	 * Used only if {@link #PARAMETER_MAX_LENGTH} is set
+	 */
+	public static final String PARAMETER_MAX_DEPTH = "rp.junit.parameter.max.depth";
+
+	/**
+	 * Put only an exception type and message into a failed item description and refer to the item log for the stack trace
+	 * instead of repeating it
+	 */
+	public static final String DESCRIPTION_TRACE_REFERENCE = "rp.junit.description.trace.reference";
+
+	/**
+	 * Leave out test framework and reflection frames from stack traces sent in logs and item descriptions
+	 */
+	public static final String STACK_TRACE_COMPACT = "rp.junit.stacktrace.compact";
+
+	/**
+	 * Comma-separated class name prefixes of stack trace frames which are always kept in a compacted stack trace
+	 */
+	public static final String STACK_TRACE_INCLUDE = "rp.junit.stacktrace.include";
+
+	/**
+	 * Comma-separated class name prefixes of stack trace frames which are left out of a compacted stack trace, by default
+	 * {@link StackTraceCompactor#DEFAULT_EXCLUDES}
+	 */
+	public static final String STACK_TRACE_EXCLUDE = "rp.junit.stacktrace.exclude";
+
+	/**
+	 * Maximum number of frames printed for an exception and each of its causes in a compacted stack trace. Zero or a negative
+	 * value means no limit
+	 */
+	public static final String STACK_TRACE_MAX_DEPTH = "rp.junit.stacktrace.max.depth";
+
+	/**
+	 * Send a stack trace of the same failure only once per launch. Later occurrences are logged with a short message which refers
+	 * to the first failed item, and failed items get the failure fingerprint attribute
+	 */
+	public static final String EXCEPTION_DEDUPLICATION = "rp.junit.exception.dedup";
+
+	private boolean itemKeyFingerprint;
+	private boolean denseTestStatus;
+	private boolean itemTreePrune;
+	private int parameterMaxLength;
+	private int parameterMaxDepth = 3;
+	private boolean descriptionTraceReference;
+	private boolean stackTraceCompact;
+	private List<String> stackTraceInclude = Collections.emptyList();
+	private List<String> stackTraceExclude = StackTraceCompactor.DEFAULT_EXCLUDES;
+	private int stackTraceMaxDepth;
+	private boolean exceptionDeduplication;
+
+	public JUnitParameters() {
+	}
+
+	public JUnitParameters(@Nonnull PropertiesLoader properties) {
+		Properties props = properties.getProperties();
+		itemKeyFingerprint = getBoolean(props, ITEM_KEY_FINGERPRINT, false);
+		denseTestStatus = getBoolean(props, DENSE_TEST_STATUS, false);
+		itemTreePrune = getBoolean(props, ITEM_TREE_PRUNE, false);
+		parameterMaxLength = getInteger(props, PARAMETER_MAX_LENGTH, parameterMaxLength);
+		parameterMaxDepth = getInteger(props, PARAMETER_MAX_DEPTH, parameterMaxDepth);
+		descriptionTraceReference = getBoolean(props, DESCRIPTION_TRACE_REFERENCE, false);
+		stackTraceCompact = getBoolean(props, STACK_TRACE_COMPACT, false);
+		stackTraceInclude = getList(props, STACK_TRACE_INCLUDE, stackTraceInclude);
+		stackTraceExclude = getList(props, STACK_TRACE_EXCLUDE, stackTraceExclude);
+		stackTraceMaxDepth = getInteger(props, STACK_TRACE_MAX_DEPTH, stackTraceMaxDepth);
+		exceptionDeduplication = getBoolean(props, EXCEPTION_DEDUPLICATION, false);
+	}
+
+	@Nullable
+	private static String getProperty(@Nonnull Properties properties, @Nonnull String name) {
+		return ofNullable(System.getProperty(name)).orElseGet(() -> properties.getProperty(name));
+	}
+
+	private static boolean getBoolean(@Nonnull Properties properties, @Nonnull String name, boolean defaultValue) {
+		return ofNullable(getProperty(properties, name)).map(String::trim).map(Boolean::parseBoolean).orElse(defaultValue);
+	}
+
+	private static int getInteger(@Nonnull Properties properties, @Nonnull String name, int defaultValue) {
+		return ofNullable(getProperty(properties, name)).map(String::trim).map(Integer::parseInt).orElse(defaultValue);
+	}
+
+	@Nonnull
+	private static List<String> getList(@Nonnull Properties properties, @Nonnull String name, @Nonnull List<String> defaultValue) {
+		return ofNullable(getProperty(properties, name)).map(v -> Arrays.stream(v.split(","))
+				.map(String::trim)
+				.filter(e -> !e.isEmpty())
+				.collect(Collectors.toList())).orElse(defaultValue);
+	}
+
+	public boolean isItemKeyFingerprint() {
+		return itemKeyFingerprint;
+	}
+
+	public void setItemKeyFingerprint(boolean itemKeyFingerprint) {
+		this.itemKeyFingerprint = itemKeyFingerprint;
+	}
+
+	public boolean isDenseTestStatus() {
+		return denseTestStatus;
+	}
+
+	public void setDenseTestStatus(boolean denseTestStatus) {
+		this.denseTestStatus = denseTestStatus;
+	}
+
+	public boolean isItemTreePrune() {
+		return itemTreePrune;
+	}
+
+	public void setItemTreePrune(boolean itemTreePrune) {
+		this.itemTreePrune = itemTreePrune;
+	}
+
+	public int getParameterMaxLength() {
+		return parameterMaxLength;
+	}
+
+	public void setParameterMaxLength(int parameterMaxLength) {
+		this.parameterMaxLength = parameterMaxLength;
+	}
+
+	public int getParameterMaxDepth() {
+		return parameterMaxDepth;
+	}
+
+	public void setParameterMaxDepth(int parameterMaxDepth) {
+		this.parameterMaxDepth = parameterMaxDepth;
+	}
+
+	public boolean isDescriptionTraceReference() {
+		return descriptionTraceReference;
+	}
+
+	public void setDescriptionTraceReference(boolean descriptionTraceReference) {
+		this.descriptionTraceReference = descriptionTraceReference;
+	}
+
+	public boolean isStackTraceCompact() {
+		return stackTraceCompact;
+	}
+
+	public void setStackTraceCompact(boolean stackTraceCompact) {
+		this.stackTraceCompact = stackTraceCompact;
+	}
+
+	@Nonnull
+	public List<String> getStackTraceInclude() {
+		return stackTraceInclude;
+	}
+
+	public void setStackTraceInclude(@Nonnull List<String> stackTraceInclude) {
+		this.stackTraceInclude = stackTraceInclude;
+	}
+
+	@Nonnull
+	public List<String> getStackTraceExclude() {
+		return stackTraceExclude;
+	}
+
+	public void setStackTraceExclude(@Nonnull List<String> stackTraceExclude) {
+		this.stackTraceExclude = stackTraceExclude;
+	}
+
+	public int getStackTraceMaxDepth() {
+		return stackTraceMaxDepth;
+	}
+
+	public void setStackTraceMaxDepth(int stackTraceMaxDepth) {
+		this.stackTraceMaxDepth = stackTraceMaxDepth;
+	}
+
+	public boolean isExceptionDeduplication() {
+		return exceptionDeduplication;
+	}
+
+	public void setExceptionDeduplication(boolean exceptionDeduplication) {
+		this.exceptionDeduplication = exceptionDeduplication;
+	}
+}
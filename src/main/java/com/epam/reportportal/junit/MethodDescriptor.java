@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test method metadata which doesn't depend on a particular invocation: an item type, a code reference, static attributes, a
+ * display name and a parsed test case ID template. A descriptor is calculated once per method.
+ */
+public class MethodDescriptor {
+
+	private final ItemType type;
+	private final String codeRef;
+	private final Set<ItemAttributesRQ> attributes;
+	private final String displayName;
+	private final TestCaseIdTemplate testCaseIdTemplate;
+
+	public MethodDescriptor(@Nullable ItemType type, @Nonnull String codeRef, @Nonnull Set<ItemAttributesRQ> attributes,
+			@Nullable String displayName) {
+		this(type, codeRef, attributes, displayName, null);
+	}
+
+	public MethodDescriptor(@Nullable ItemType type, @Nonnull String codeRef, @Nonnull Set<ItemAttributesRQ> attributes,
+			@Nullable String displayName, @Nullable TestCaseIdTemplate testCaseIdTemplate) {
+		this.type = type;
+		this.codeRef = codeRef.intern();
+		this.attributes = Collections.unmodifiableSet(attributes);
+		this.displayName = displayName;
+		this.testCaseIdTemplate = testCaseIdTemplate;
+	}
+
+	@Nullable
+	public ItemType getType() {
+		return type;
+	}
+
+	@Nonnull
+	public String getCodeRef() {
+		return codeRef;
+	}
+
+	/**
+	 * Returns a copy of the method attributes, so a request can't modify the cached ones
+	 *
+	 * @return a set of attributes
+	 */
+	@Nonnull
+	public Set<ItemAttributesRQ> getAttributes() {
+		return attributes.stream()
+				.map(a -> new ItemAttributesRQ(a.getKey(), a.getValue(), a.isSystem()))
+				.collect(Collectors.toSet());
+	}
+
+	@Nullable
+	public String getDisplayName() {
+		return displayName;
+	}
+
+	/**
+	 * Returns a parsed {@link com.epam.reportportal.annotations.TestCaseId} value of the method
+	 *
+	 * @return the template or null if the method has no test case ID template
+	 */
+	@Nullable
+	public TestCaseIdTemplate getTestCaseIdTemplate() {
+		return testCaseIdTemplate;
+	}
+}
@@ -39,6 +39,8 @@ public class ParallelRunningContext {
 	private final Map<FrameworkMethod, Description> testMethodDescription = new ConcurrentHashMap<>();
 	private final Map<TestItemTree.ItemTreeKey, ItemStatus> testStatus = new ConcurrentHashMap<>();
 	private final Map<TestItemTree.ItemTreeKey, Throwable> testThrowable = new ConcurrentHashMap<>();
+	private final Map<Description, TestIdentity> testIdentity = new ConcurrentHashMap<>();
+	private final TestStatusArray testStatusArray = new TestStatusArray();
 
 	public ParallelRunningContext() {
 		CONTEXT_THREAD_LOCAL.set(this);
@@ -56,6 +58,35 @@ public class ParallelRunningContext {
 		return testStatus.computeIfAbsent(test, mappingFunction);
 	}
 
+	/**
+	 * Allocates a dense ordinal for a new test, see {@link TestIdentity#getOrdinal()}
+	 *
+	 * @return the test ordinal
+	 */
+	public int nextTestOrdinal() {
+		return testStatusArray.nextOrdinal();
+	}
+
+	public ItemStatus getTestStatus(TestIdentity test) {
+		return test.getOrdinal() < 0 ? getTestStatus(test.getKey()) : testStatusArray.getStatus(test.getOrdinal());
+	}
+
+	public ItemStatus setTestStatus(TestIdentity test, ItemStatus status) {
+		return test.getOrdinal() < 0 ? setTestStatus(test.getKey(), status) : testStatusArray.setStatus(test.getOrdinal(), status);
+	}
+
+	public Throwable getTestThrowable(TestIdentity test) {
+		return test.getOrdinal() < 0 ? getTestThrowable(test.getKey()) : testStatusArray.getThrowable(test.getOrdinal());
+	}
+
+	public void setTestThrowable(TestIdentity test, Throwable throwable) {
+		if (test.getOrdinal() < 0) {
+			setTestThrowable(test.getKey(), throwable);
+		} else {
+			testStatusArray.setThrowable(test.getOrdinal(), throwable);
+		}
+	}
+
 	public Throwable getTestThrowable(TestItemTree.ItemTreeKey test) {
 		return testThrowable.get(test);
 	}
@@ -64,6 +95,32 @@ public class ParallelRunningContext {
 		testThrowable.put(test, throwable);
 	}
 
+	public TestIdentity getTestIdentity(Description description) {
+		return testIdentity.get(description);
+	}
+
+	public TestIdentity computeTestIdentityIfNo(Description description, Function<Description, TestIdentity> mappingFunction) {
+		return testIdentity.computeIfAbsent(description, mappingFunction);
+	}
+
+	/**
+	 * Releases the state of a finished test: its identity, description, status and throwable
+	 *
+	 * @param description JUnit framework test description object
+	 * @param test        the test identity
+	 */
+	public void removeTest(Description description, TestIdentity test) {
+		testIdentity.remove(description, test);
+		testMethodDescription.remove(test.getMethod(), description);
+		if (test.getOrdinal() < 0) {
+			testStatus.remove(test.getKey());
+			testThrowable.remove(test.getKey());
+		} else {
+			testStatusArray.setStatus(test.getOrdinal(), null);
+			testStatusArray.setThrowable(test.getOrdinal(), null);
+		}
+	}
+
 	public Description getTestMethodDescription(FrameworkMethod method) {
 		return testMethodDescription.get(method);
 	}
@@ -17,8 +17,13 @@ package com.epam.reportportal.junit;
 
 import com.epam.reportportal.annotations.TestCaseId;
 import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.junit.utils.ExceptionFingerprint;
+import com.epam.reportportal.junit.utils.FieldAccessor;
 import com.epam.reportportal.junit.utils.ItemTreeUtils;
+import com.epam.reportportal.junit.utils.ParameterRenderer;
+import com.epam.reportportal.junit.utils.StackTraceCompactor;
 import com.epam.reportportal.junit.utils.SystemAttributesFetcher;
+import com.epam.reportportal.junit.utils.WeakIdentityCache;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ItemType;
 import com.epam.reportportal.listeners.ListenerParameters;
@@ -28,7 +33,7 @@ import com.epam.reportportal.service.ReportPortal;
 import com.epam.reportportal.service.item.TestCaseIdEntry;
 import com.epam.reportportal.service.tree.TestItemTree;
 import com.epam.reportportal.utils.*;
-import com.epam.reportportal.utils.reflect.Accessible;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
@@ -60,7 +65,8 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -84,6 +90,9 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	private static final String IS_RETRY = "IS_RETRY";
 	private static final String IS_THEORY = "IS_THEORY";
 	public static final String DESCRIPTION_TEST_ERROR_FORMAT = "%s\nError: \n%s";
+	public static final String DESCRIPTION_TRACE_REFERENCE_MESSAGE = "See the item log for the full stack trace";
+	public static final String FAILURE_FINGERPRINT_ATTRIBUTE = "failure.fingerprint";
+	public static final String DUPLICATE_FAILURE_MESSAGE_FORMAT = "%s\nThe same stack trace was already reported in item %s, fingerprint: %s";
 	private Throwable testThrowable;
 	private static final Map<Class<? extends Annotation>, ItemType> TYPE_MAP = Collections.unmodifiableMap(new HashMap<>() {
 		private static final long serialVersionUID = 5292344734560662610L;
@@ -102,11 +111,34 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	private static final Predicate<StackTraceElement[]> IS_EXPECTED_EXCEPTION_RULE = eList -> Arrays.stream(eList)
 			.anyMatch(EXPECTED_EXCEPTION_ELEMENT);
 
+	private static final ClassValue<Map<Method, MethodDescriptor>> METHOD_DESCRIPTORS = new ClassValue<>() {
+		@Override
+		protected Map<Method, MethodDescriptor> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final FieldAccessor RUNNER_PARAMETERS = new FieldAccessor("parameters");
+	private static final FieldAccessor CALLABLE_PARAMETERS = new FieldAccessor("val$params");
+	private static final FieldAccessor CALLABLE_TARGET = new FieldAccessor("val$target");
+
 	private static volatile ReportPortal REPORT_PORTAL = ReportPortal.builder().build();
+	private static volatile JUnitParameters JUNIT_PARAMETERS = new JUnitParameters(PropertiesLoader.load());
 
 	private final ParallelRunningContext context = new ParallelRunningContext();
 	private final MemoizingSupplier<Launch> launch = createLaunch();
-	private final ConcurrentLinkedDeque<Object> runners = new ConcurrentLinkedDeque<>();
+	private final Map<Object, SuiteDescriptor> suiteDescriptors = new ConcurrentHashMap<>();
+	private final Map<Object, List<Object>> runnerChains = new ConcurrentHashMap<>();
+	private final Map<Object, TestItemTree.TestItemLeaf> runnerLeaves = new ConcurrentHashMap<>();
+	private final Map<Object, Map.Entry<Class<?>, List<ParameterResource>>> runnerParameters = new ConcurrentHashMap<>();
+	private final Map<String, Object> namedRunners = new ConcurrentHashMap<>();
+	private final Map<Map.Entry<Maybe<String>, TestItemTree.ItemTreeKey>, CompletableFuture<TestItemTree.TestItemLeaf>> startingLeaves =
+			new ConcurrentHashMap<>();
+	private volatile ParameterRenderer parameterRenderer;
+	private volatile StackTraceCompactor stackTraceCompactor;
+	private final WeakIdentityCache<String> renderedThrowables = new WeakIdentityCache<>();
+	private final WeakIdentityCache<String> failureFingerprints = new WeakIdentityCache<>();
+	private final Map<String, String> reportedFailures = new ConcurrentHashMap<>();
 
 	/**
 	 * Returns a supplier which initialize a launch on the first 'get'.
@@ -141,6 +173,25 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 		REPORT_PORTAL = reportPortal;
 	}
 
+	/**
+	 * Returns current JUnit agent specific parameters
+	 *
+	 * @return current parameters
+	 */
+	@Nonnull
+	public static JUnitParameters getJUnitParameters() {
+		return JUNIT_PARAMETERS;
+	}
+
+	/**
+	 * Set current JUnit agent specific parameters
+	 *
+	 * @param parameters parameters to use
+	 */
+	public static void setJUnitParameters(@Nonnull JUnitParameters parameters) {
+		JUNIT_PARAMETERS = parameters;
+	}
+
 	/**
 	 * Send a "finish launch" request to Report Portal.
 	 */
@@ -153,47 +204,96 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 		}
 	}
 
+	/**
+	 * Build a chain of runners from the root runner to the given one following parent links. Runners with the same name as their
+	 * parent (e.g. parameterized runners) replace the parent in the chain. Runners which were not started through JUnit
+	 * lifecycle (e.g. Theory invocation runners) are attached to a started runner with the same name.
+	 *
+	 * @param runner JUnit test runner
+	 * @return an immutable runner chain
+	 */
 	@Nonnull
-	private List<Object> getRunnerChain(@Nonnull final Object runner) {
-		List<Object> chain = new ArrayList<>();
-		chain.add(runner);
-		Object current = runner;
-		for (Object parent : runners) {
-			if (!getRunnerName(current).equals(getRunnerName(parent))) {
-				// skip duplicated runners in parameterized tests
-				chain.add(parent);
-			}
-			current = parent;
+	private List<Object> buildRunnerChain(@Nonnull final Object runner) {
+		SuiteDescriptor descriptor = getSuiteDescriptor(runner);
+		Object parent = descriptor.getParent();
+		if (parent == null && !runnerChains.containsKey(runner)) {
+			parent = namedRunners.get(descriptor.getName());
+		}
+		if (parent == null || parent == runner) {
+			return Collections.singletonList(runner);
 		}
-		Collections.reverse(chain);
-		return chain;
+		List<Object> parentChain = getRunnerChain(parent);
+		List<Object> chain = new ArrayList<>(parentChain.size() + 1);
+		chain.addAll(parentChain);
+		int last = chain.size() - 1;
+		if (descriptor.getName().equals(getSuiteDescriptor(chain.get(last)).getName())) {
+			// skip duplicated runners in parameterized tests
+			chain.set(last, runner);
+		} else {
+			chain.add(runner);
+		}
+		return Collections.unmodifiableList(chain);
 	}
 
+	@Nonnull
+	private List<Object> getRunnerChain(@Nonnull final Object runner) {
+		List<Object> chain = runnerChains.get(runner);
+		return chain != null ? chain : buildRunnerChain(runner);
+	}
+
+	/**
+	 * Returns a suite leaf from the given children map or starts a new one. Only one thread starts a suite, others wait for its
+	 * leaf, while building of the request and the client call happen outside any map lock.
+	 */
 	@Nonnull
 	private TestItemTree.TestItemLeaf retrieveLeaf(@Nonnull final Map<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> children,
 			@Nonnull final Object runner, @Nonnull final Instant previousDate, @Nonnull final ItemType itemType,
 			@Nullable final Maybe<String> parentId) {
-		return children.computeIfAbsent(
-				TestItemTree.ItemTreeKey.of(getRunnerName(runner)), (k) -> {
-					Launch myLaunch = launch.get();
-					Instant currentDate = Instant.now();
-					Instant itemDate;
-					if (previousDate.compareTo(currentDate) <= 0) {
-						itemDate = currentDate;
-					} else {
-						itemDate = previousDate;
-					}
-					StartTestItemRQ rq =
-							itemType == ItemType.TEST ? buildStartTestItemRq(runner, itemDate) : buildStartSuiteRq(runner, itemDate);
-					TestItemTree.TestItemLeaf l = ofNullable(parentId).map(p -> TestItemTree.createTestItemLeaf(
-							p,
-							myLaunch.startTestItem(p, rq)
-					)).orElseGet(() -> TestItemTree.createTestItemLeaf(myLaunch.startTestItem(rq)));
-					l.setType(ItemType.SUITE);
-					l.setAttribute(START_TIME, rq.getStartTime());
-					return l;
-				}
-		);
+		TestItemTree.ItemTreeKey key = getSuiteDescriptor(runner).getKey();
+		TestItemTree.TestItemLeaf leaf = children.get(key);
+		if (leaf != null) {
+			return leaf;
+		}
+		Map.Entry<Maybe<String>, TestItemTree.ItemTreeKey> startKey = new AbstractMap.SimpleImmutableEntry<>(parentId, key);
+		CompletableFuture<TestItemTree.TestItemLeaf> myStart = new CompletableFuture<>();
+		CompletableFuture<TestItemTree.TestItemLeaf> start = startingLeaves.putIfAbsent(startKey, myStart);
+		if (start != null) {
+			return start.join();
+		}
+		try {
+			// the suite could be started by another thread between the first check and the placeholder put
+			leaf = children.get(key);
+			if (leaf == null) {
+				leaf = startLeaf(runner, previousDate, itemType, parentId);
+				children.put(key, leaf);
+			}
+			myStart.complete(leaf);
+			return leaf;
+		} catch (RuntimeException e) {
+			myStart.completeExceptionally(e);
+			throw e;
+		} finally {
+			startingLeaves.remove(startKey, myStart);
+		}
+	}
+
+	@Nonnull
+	private TestItemTree.TestItemLeaf startLeaf(@Nonnull final Object runner, @Nonnull final Instant previousDate,
+			@Nonnull final ItemType itemType, @Nullable final Maybe<String> parentId) {
+		Launch myLaunch = launch.get();
+		Instant currentDate = Instant.now();
+		Instant itemDate;
+		if (previousDate.compareTo(currentDate) <= 0) {
+			itemDate = currentDate;
+		} else {
+			itemDate = previousDate;
+		}
+		StartTestItemRQ rq = itemType == ItemType.TEST ? buildStartTestItemRq(runner, itemDate) : buildStartSuiteRq(runner, itemDate);
+		TestItemTree.TestItemLeaf l = ofNullable(parentId).map(p -> TestItemTree.createTestItemLeaf(p, myLaunch.startTestItem(p, rq)))
+				.orElseGet(() -> TestItemTree.createTestItemLeaf(myLaunch.startTestItem(rq)));
+		l.setType(ItemType.SUITE);
+		l.setAttribute(START_TIME, rq.getStartTime());
+		return l;
 	}
 
 	/**
@@ -204,6 +304,10 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	@Nonnull
 	protected TestItemTree.TestItemLeaf retrieveLeaf(@Nonnull final Object testRunner) {
+		TestItemTree.TestItemLeaf cachedLeaf = runnerLeaves.get(testRunner);
+		if (cachedLeaf != null) {
+			return cachedLeaf;
+		}
 		List<Object> runnerChain = getRunnerChain(testRunner);
 		int chainSize = runnerChain.size();
 		List<TestItemTree.TestItemLeaf> leafChain = new ArrayList<>(chainSize);
@@ -221,6 +325,13 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 				));
 			}
 		}
+		for (int i = 0; i < chainSize; i++) {
+			Object runner = runnerChain.get(i);
+			// cache only started runners, 'stopRunner' drops them
+			if (runnerChains.containsKey(runner)) {
+				runnerLeaves.putIfAbsent(runner, leafChain.get(i));
+			}
+		}
 		return leafChain.get(chainSize - 1);
 	}
 
@@ -232,11 +343,15 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	@Nullable
 	protected TestItemTree.TestItemLeaf getLeaf(@Nonnull final Object runner) {
+		TestItemTree.TestItemLeaf cachedLeaf = runnerLeaves.get(runner);
+		if (cachedLeaf != null) {
+			return cachedLeaf;
+		}
 		List<Object> chain = getRunnerChain(runner);
 		TestItemTree.TestItemLeaf leaf = null;
 		Map<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> children = context.getItemTree().getTestItems();
 		for (Object r : chain) {
-			leaf = children.get(TestItemTree.ItemTreeKey.of(getRunnerName(r)));
+			leaf = children.get(getSuiteDescriptor(r).getKey());
 			if (leaf != null) {
 				children = leaf.getChildItems();
 			}
@@ -255,12 +370,16 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	@Nullable
 	protected TestItemTree.TestItemLeaf getLeaf(@Nonnull final Object runner, @Nonnull final FrameworkMethod method,
 			@Nonnull final ReflectiveCallable callable) {
-		TestItemTree.ItemTreeKey myKey = ofNullable(method.getAnnotation(Theory.class)).map(T -> createItemTreeKey(method))
-				.orElseGet(() -> createItemTreeKey(method, getStepParameters(method, runner, callable)));
-		TestItemTree.ItemTreeKey myParentKey = createItemTreeKey(getRunnerName(runner));
+		TestItemTree.ItemTreeKey myKey = ofNullable(getTestIdentity(
+				context.getTestMethodDescription(method),
+				runner,
+				method
+		)).map(TestIdentity::getKey)
+				.orElseGet(() -> ofNullable(method.getAnnotation(Theory.class)).map(T -> createItemTreeKey(method))
+						.orElseGet(() -> createStepKey(method, getStepParameters(method, runner, callable))));
 		TestItemTree.TestItemLeaf testLeaf = ofNullable(getLeaf(runner)).orElseGet(() -> context.getItemTree()
 				.getTestItems()
-				.get(myParentKey));
+				.get(getSuiteDescriptor(runner).getKey()));
 
 		return ofNullable(testLeaf).map(l -> l.getChildItems().get(myKey)).orElse(null);
 	}
@@ -303,7 +422,10 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 * @param runner JUnit test runner
 	 */
 	protected void startRunner(@Nonnull final Object runner) {
-		runners.addFirst(runner);
+		SuiteDescriptor descriptor = createSuiteDescriptor(runner);
+		suiteDescriptors.put(runner, descriptor);
+		runnerChains.put(runner, buildRunnerChain(runner));
+		namedRunners.putIfAbsent(descriptor.getName(), runner);
 	}
 
 	/**
@@ -314,25 +436,44 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	@SuppressWarnings("ReactiveStreamsUnusedPublisher")
 	protected void stopRunner(@Nonnull final Object runner) {
 		FinishTestItemRQ rq = buildFinishSuiteRq(LifecycleHooks.getTestClassOf(runner));
+		SuiteDescriptor descriptor = getSuiteDescriptor(runner);
+		boolean prune = getJUnitParameters().isItemTreePrune();
 		ofNullable(getLeaf(runner)).ifPresent(l -> {
 			l.setAttribute(FINISH_REQUEST, rq);
 			ItemStatus status = l.getStatus();
-			for (Map.Entry<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> entry : l.getChildItems().entrySet()) {
+			Map<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> children = l.getChildItems();
+			for (Map.Entry<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> entry : children.entrySet()) {
 				TestItemTree.TestItemLeaf value = entry.getValue();
 				if (value.getType() != ItemType.SUITE) {
+					if (prune) {
+						// the runner is finished, so are its steps
+						children.remove(entry.getKey(), value);
+					}
 					continue;
 				}
-				ofNullable(value.getAttribute(FINISH_REQUEST)).ifPresent(r -> launch.get()
-						.finishTestItem(value.getItemId(), (FinishTestItemRQ) value.clearAttribute(FINISH_REQUEST)));
+				FinishTestItemRQ childRq = (FinishTestItemRQ) value.clearAttribute(FINISH_REQUEST);
+				if (childRq != null) {
+					launch.get().finishTestItem(value.getItemId(), childRq);
+					if (prune) {
+						children.remove(entry.getKey(), value);
+					}
+				}
 				status = evaluateStatus(status, value.getStatus());
 			}
 			l.setStatus(status);
 			if (l.getParentId() == null) {
 				rq.setStatus(ofNullable(status).map(Enum::name).orElse(null));
 				launch.get().finishTestItem(l.getItemId(), rq);
+				if (prune) {
+					context.getItemTree().getTestItems().remove(descriptor.getKey(), l);
+				}
 			}
 		});
-		runners.removeFirstOccurrence(runner);
+		runnerLeaves.remove(runner);
+		runnerParameters.remove(runner);
+		runnerChains.remove(runner);
+		suiteDescriptors.remove(runner);
+		namedRunners.remove(descriptor.getName(), runner);
 	}
 
 	/**
@@ -360,12 +501,68 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	protected void startTest(@Nonnull final AtomicTest testContext) {
 		FrameworkMethod method = testContext.getIdentity();
+		TestIdentity identity = getTestIdentity(testContext);
 		if (ofNullable(method.getAnnotation(Theory.class)).isEmpty()) {
-			context.setTestStatus(createItemTreeKey(method, getStepParameters(testContext)), ItemStatus.PASSED);
+			context.setTestStatus(identity, ItemStatus.PASSED);
 		}
 		context.setTestMethodDescription(method, testContext.getDescription());
 	}
 
+	/**
+	 * Returns an identity of the test inside Item Tree: an item key and step parameters. The identity is calculated once per test
+	 * and reused by all further callbacks of the test.
+	 *
+	 * @param testContext {@link AtomicTest} object for test method
+	 * @return the test identity
+	 */
+	@Nonnull
+	protected TestIdentity getTestIdentity(@Nonnull final AtomicTest testContext) {
+		return context.computeTestIdentityIfNo(testContext.getDescription(), d -> {
+			Object runner = testContext.getRunner();
+			FrameworkMethod method = testContext.getIdentity();
+			int ordinal = getJUnitParameters().isDenseTestStatus() ? context.nextTestOrdinal() : -1;
+			if (method.getAnnotation(Theory.class) != null) {
+				return new TestIdentity(runner, method, createItemTreeKey(method), null, ordinal);
+			}
+			List<ParameterResource> parameters = getStepParameters(testContext);
+			return new TestIdentity(runner, method, createStepKey(method, parameters), parameters, ordinal);
+		});
+	}
+
+	/**
+	 * Creates an Item Tree key of a test step, depending on {@link JUnitParameters#isItemKeyFingerprint()} the key is either a full
+	 * method name with parameters or a fixed-size fingerprint of them.
+	 *
+	 * @param method     JUnit framework method context
+	 * @param parameters step parameters
+	 * @return an Item Tree key
+	 */
+	@Nonnull
+	protected TestItemTree.ItemTreeKey createStepKey(@Nonnull final FrameworkMethod method,
+			@Nullable final List<ParameterResource> parameters) {
+		return getJUnitParameters().isItemKeyFingerprint() ?
+				ItemTreeUtils.createFingerprintItemTreeKey(method, parameters) :
+				createItemTreeKey(method, parameters);
+	}
+
+	/**
+	 * Returns a previously calculated identity of a test if it was calculated for the same runner and method. Theories are not
+	 * cached, since every theory invocation has its own parameters.
+	 *
+	 * @param description JUnit framework test description object
+	 * @param runner      JUnit test runner
+	 * @param method      JUnit framework method context
+	 * @return the test identity or null if not found
+	 */
+	@Nullable
+	private TestIdentity getTestIdentity(@Nullable final Description description, @Nonnull final Object runner,
+			@Nonnull final FrameworkMethod method) {
+		if (description == null || method.getAnnotation(Theory.class) != null) {
+			return null;
+		}
+		return ofNullable(context.getTestIdentity(description)).filter(i -> i.isOf(runner, method)).orElse(null);
+	}
+
 	/**
 	 * Send a <b>finish test item</b> request for the indicated test to Report Portal.
 	 *
@@ -373,10 +570,10 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	protected void finishTest(@Nonnull final AtomicTest testContext) {
 		FrameworkMethod method = testContext.getIdentity();
-		TestItemTree.ItemTreeKey key = ofNullable(method.getAnnotation(Theory.class)).map(T -> createItemTreeKey(method))
-				.orElseGet(() -> createItemTreeKey(method, getStepParameters(testContext)));
-		ItemStatus status = context.getTestStatus(key);
-		Throwable throwable = context.getTestThrowable(key);
+		TestIdentity identity = getTestIdentity(testContext);
+		TestItemTree.ItemTreeKey key = identity.getKey();
+		ItemStatus status = context.getTestStatus(identity);
+		Throwable throwable = context.getTestThrowable(identity);
 		Object runner = testContext.getRunner();
 		ReflectiveCallable callable = LifecycleHooks.getCallableOf(testContext.getDescription());
 		TestItemTree.TestItemLeaf testLeaf = getLeaf(runner);
@@ -401,9 +598,9 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 					}
 				} else if (isTheory && runner.getClass() == Theories.class) {
 					// fail theory test if no theories passed
-					ItemStatus theoryStatus = context.getTestStatus(key);
+					ItemStatus theoryStatus = context.getTestStatus(identity);
 					if (ItemStatus.FAILED == theoryStatus) {
-						sendReportPortalMsg(l.getItemId(), LogLevel.ERROR, context.getTestThrowable(key));
+						sendReportPortalMsg(l.getItemId(), LogLevel.ERROR, context.getTestThrowable(identity));
 					}
 					stopTestMethod(
 							l,
@@ -414,6 +611,31 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 			});
 			testLeaf.setStatus(status);
 		}
+		if (method.getAnnotation(Theory.class) == null || runner.getClass() == Theories.class) {
+			context.removeTest(testContext.getDescription(), identity);
+			ofNullable(testLeaf).ifPresent(l -> pruneTestItem(l, method, key));
+		}
+	}
+
+	/**
+	 * Removes a finished test item from Item Tree if {@link JUnitParameters#isItemTreePrune()} is on. Items which are going to be
+	 * retried are kept, since the next attempt needs them.
+	 *
+	 * @param parentLeaf a parent leaf of the item inside ItemTree
+	 * @param method     {@link FrameworkMethod} object for test
+	 * @param key        the item key
+	 */
+	private void pruneTestItem(@Nonnull final TestItemTree.TestItemLeaf parentLeaf, @Nonnull final FrameworkMethod method,
+			@Nonnull final TestItemTree.ItemTreeKey key) {
+		if (!getJUnitParameters().isItemTreePrune()) {
+			return;
+		}
+		TestItemTree.TestItemLeaf leaf = parentLeaf.getChildItems().get(key);
+		if (leaf == null || Boolean.TRUE.equals(leaf.getAttribute(IS_RETRY))) {
+			return;
+		}
+		parentLeaf.getChildItems().remove(key, leaf);
+		context.getItemTree().getTestItems().remove(createItemTreeKey(method), leaf);
 	}
 
 	/**
@@ -426,7 +648,12 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	protected void startTestItem(@Nonnull final FrameworkMethod method, @Nonnull final TestItemTree.TestItemLeaf parentLeaf,
 			@Nonnull final StartTestItemRQ rq) {
 		TestItemTree.ItemTreeKey myKey = ofNullable(method.getAnnotation(Theory.class)).map(a -> createItemTreeKey(method))
-				.orElseGet(() -> createItemTreeKey(method, rq.getParameters()));
+				.orElseGet(() -> createStepKey(method, rq.getParameters()));
+		startTestItem(method, parentLeaf, rq, myKey);
+	}
+
+	private void startTestItem(@Nonnull final FrameworkMethod method, @Nonnull final TestItemTree.TestItemLeaf parentLeaf,
+			@Nonnull final StartTestItemRQ rq, @Nonnull final TestItemTree.ItemTreeKey myKey) {
 		Map<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> children = parentLeaf.getChildItems();
 		TestItemTree.TestItemLeaf child = children.get(myKey);
 		if (child != null) {
@@ -460,14 +687,14 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	protected void startTestMethod(@Nonnull final Object runner, @Nonnull final FrameworkMethod method,
 			@Nonnull final ReflectiveCallable callable) {
 		TestItemTree.TestItemLeaf testLeaf = retrieveLeaf(runner);
-		StartTestItemRQ rq = buildStartStepRq(
-				runner,
-				context.getTestMethodDescription(method),
-				method,
-				callable,
-				getDateForChild(testLeaf)
-		);
-		startTestItem(method, testLeaf, rq);
+		Description description = context.getTestMethodDescription(method);
+		StartTestItemRQ rq = buildStartStepRq(runner, description, method, callable, getDateForChild(testLeaf));
+		TestIdentity identity = getTestIdentity(description, runner, method);
+		if (identity != null) {
+			startTestItem(method, testLeaf, rq, identity.getKey());
+		} else {
+			startTestItem(method, testLeaf, rq);
+		}
 	}
 
 	/**
@@ -478,11 +705,36 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	@Nullable
 	protected ItemType detectMethodType(@Nonnull final FrameworkMethod method) {
-		return Arrays.stream(method.getAnnotations())
+		return getMethodDescriptor(method).getType();
+	}
+
+	/**
+	 * Returns cached metadata of a test method. Descriptors are stored per declaring class, so they don't keep classes loaded by
+	 * different class loaders from unloading.
+	 *
+	 * @param frameworkMethod JUnit framework method context
+	 * @return the method descriptor
+	 */
+	@Nonnull
+	protected MethodDescriptor getMethodDescriptor(@Nonnull final FrameworkMethod frameworkMethod) {
+		Method method = frameworkMethod.getMethod();
+		return METHOD_DESCRIPTORS.get(method.getDeclaringClass())
+				.computeIfAbsent(method, ReportPortalListener::createMethodDescriptor);
+	}
+
+	@Nonnull
+	private static MethodDescriptor createMethodDescriptor(@Nonnull final Method method) {
+		ItemType type = Arrays.stream(method.getAnnotations())
 				.map(a -> TYPE_MAP.get(a.annotationType()))
 				.filter(Objects::nonNull)
 				.findFirst()
 				.orElse(null);
+		Stream<ItemAttributesRQ> categories = ofNullable(method.getAnnotation(Category.class)).stream()
+				.flatMap(a -> Arrays.stream(a.value()).map(c -> new ItemAttributesRQ(null, c.getSimpleName())));
+		Set<ItemAttributesRQ> attributes = Stream.concat(categories, getAttributes(method).stream()).collect(Collectors.toSet());
+		String displayName = ofNullable(method.getAnnotation(DisplayName.class)).map(DisplayName::value).orElse(null);
+		TestCaseIdTemplate testCaseIdTemplate = TestCaseIdTemplate.compile(method.getAnnotation(TestCaseId.class));
+		return new MethodDescriptor(type, TestCaseIdUtils.getCodeRef(method), attributes, displayName, testCaseIdTemplate);
 	}
 
 	private void updateTestItemTree(@Nonnull final FrameworkMethod method, @Nullable final Maybe<OperationCompletionRS> finishResponse) {
@@ -506,12 +758,12 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 			@Nonnull final ReflectiveCallable callable, @Nonnull final Instant eventTime, @Nullable final Throwable throwable) {
 		Instant currentTime = Instant.now();
 		Instant skipStartTime = currentTime.isAfter(eventTime) ? currentTime.minusMillis(1) : currentTime;
-		TestItemTree.ItemTreeKey myParentKey = createItemTreeKey(getRunnerName(runner));
+		TestItemTree.ItemTreeKey myParentKey = getSuiteDescriptor(runner).getKey();
 		TestItemTree.TestItemLeaf testLeaf = ofNullable(getLeaf(runner)).orElseGet(() -> context.getItemTree()
 				.getTestItems()
 				.get(myParentKey));
 		try {
-			Object target = LifecycleHooks.getFieldValue(callable, "val$target");
+			Object target = CALLABLE_TARGET.getValue(callable);
 			AtomicTest testContext = LifecycleHooks.getAtomicTestOf(target);
 			Description description = testContext.getDescription();
 			FrameworkMethod method = testContext.getIdentity();
@@ -524,7 +776,7 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 				//noinspection ReactiveStreamsUnusedPublisher
 				launch.get().finishTestItem(id, finishRq);
 			});
-		} catch (IllegalAccessException | NoSuchFieldException | SecurityException e) {
+		} catch (NoSuchFieldException e) {
 			// nothing to do here
 		}
 	}
@@ -548,13 +800,9 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 		Maybe<String> itemId = myLeaf.getItemId();
 		// update existing item or just send new
 		Maybe<OperationCompletionRS> finishResponse = ofNullable(myLeaf.getFinishResponse()).map(rs -> {
-			/*
-			 * ensure previous request passed to maintain the order
-			 * FIXME: rework it to be more RX-friendly, make client wait for all Maybe features
-			 */
-			// noinspection ResultOfMethodCallIgnored
-			rs.blockingGet();
-			return launch.get().finishTestItem(itemId, rq);
+			// the update waits for the previous request to maintain the order, but the test thread doesn't
+			Maybe<String> orderedItemId = rs.ignoreElement().onErrorComplete().andThen(itemId).cache();
+			return launch.get().finishTestItem(orderedItemId, rq);
 		}).orElseGet(() -> launch.get().finishTestItem(itemId, rq));
 		myLeaf.setFinishResponse(finishResponse);
 		if (getReportPortal().getParameters().isCallbackReportingEnabled()) {
@@ -619,11 +867,9 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 * @param thrown      a <code>Throwable</code> thrown by method
 	 */
 	protected void setTestFailure(@Nonnull final AtomicTest testContext, @Nullable final Throwable thrown) {
-		FrameworkMethod method = testContext.getIdentity();
-		TestItemTree.ItemTreeKey key = ofNullable(method.getAnnotation(Theory.class)).map(a -> createItemTreeKey(testContext.getIdentity()))
-				.orElseGet(() -> createItemTreeKey(testContext.getIdentity(), getStepParameters(testContext)));
-		context.setTestStatus(key, ItemStatus.FAILED);
-		context.setTestThrowable(key, thrown);
+		TestIdentity identity = getTestIdentity(testContext);
+		context.setTestStatus(identity, ItemStatus.FAILED);
+		context.setTestThrowable(identity, thrown);
 	}
 
 	/**
@@ -632,13 +878,11 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 * @param testContext {@link AtomicTest} object for test method
 	 */
 	protected void handleTestSkip(@Nonnull final AtomicTest testContext) {
-		List<ParameterResource> parameters = getStepParameters(testContext);
-		TestItemTree.ItemTreeKey key = createItemTreeKey(testContext.getIdentity(), parameters);
-		context.setTestStatus(key, ItemStatus.SKIPPED);
+		TestIdentity identity = getTestIdentity(testContext);
+		context.setTestStatus(identity, ItemStatus.SKIPPED);
 		Object runner = testContext.getRunner();
 		FrameworkMethod method = testContext.getIdentity();
-		TestItemTree.ItemTreeKey myKey = createItemTreeKey(method, parameters);
-		TestItemTree.TestItemLeaf myLeaf = retrieveLeaf(runner).getChildItems().get(myKey);
+		TestItemTree.TestItemLeaf myLeaf = retrieveLeaf(runner).getChildItems().get(identity.getKey());
 		if (myLeaf == null) {
 			// a test method wasn't started, most likely an ignored test: start and stop a test item with 'skipped' status
 			ReflectiveCallable callable = LifecycleHooks.encloseCallable(method.getMethod(), null);
@@ -646,6 +890,8 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 			startTest(testContext);
 			startTestMethod(runner, method, callable);
 			stopTestMethod(runner, method, callable, ItemStatus.SKIPPED, null);
+			context.removeTest(testContext.getDescription(), identity);
+			ofNullable(getLeaf(runner)).ifPresent(l -> pruneTestItem(l, method, identity.getKey()));
 		} else {
 			// a test method started
 			FinishTestItemRQ rq;
@@ -670,9 +916,70 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 * @param thrown      a <code>Throwable</code> thrown by method
 	 */
 	protected void setTestSkip(@Nonnull final AtomicTest testContext, @Nullable final Throwable thrown) {
-		TestItemTree.ItemTreeKey key = createItemTreeKey(testContext.getIdentity(), getStepParameters(testContext));
-		context.setTestStatus(key, ItemStatus.SKIPPED);
-		context.setTestThrowable(key, thrown);
+		TestIdentity identity = getTestIdentity(testContext);
+		context.setTestStatus(identity, ItemStatus.SKIPPED);
+		context.setTestThrowable(identity, thrown);
+	}
+
+	@Nullable
+	private StackTraceCompactor getStackTraceCompactor() {
+		JUnitParameters parameters = getJUnitParameters();
+		if (!parameters.isStackTraceCompact()) {
+			return null;
+		}
+		StackTraceCompactor compactor = stackTraceCompactor;
+		if (compactor == null || compactor.getMaxDepth() != parameters.getStackTraceMaxDepth()
+				|| !compactor.getIncludes().equals(parameters.getStackTraceInclude())
+				|| !compactor.getExcludes().equals(parameters.getStackTraceExclude())) {
+			compactor = new StackTraceCompactor(parameters.getStackTraceInclude(),
+					parameters.getStackTraceExclude(),
+					parameters.getStackTraceMaxDepth()
+			);
+			stackTraceCompactor = compactor;
+		}
+		return compactor;
+	}
+
+	/**
+	 * Extension point to customize conversion of a {@link Throwable} to a log message and an item description. The same throwable
+	 * is usually reported several times (a log of the failed method, a description of the failed item, a log of the test), so
+	 * the result is cached while the throwable is alive. Stack traces are compacted if {@link JUnitParameters#isStackTraceCompact()}
+	 * is set.
+	 *
+	 * @param thrown a throwable to render
+	 * @return the throwable text
+	 */
+	@Nonnull
+	protected String renderThrowable(@Nonnull final Throwable thrown) {
+		return renderedThrowables.computeIfAbsent(thrown, t -> {
+			StackTraceCompactor compactor = getStackTraceCompactor();
+			return compactor == null ? ExceptionUtils.getStackTrace(t) : compactor.compact(t);
+		});
+	}
+
+	/**
+	 * Extension point to customize a fingerprint of a failure which is used to report the same stack trace only once, see
+	 * {@link JUnitParameters#isExceptionDeduplication()}. The fingerprint is cached while the throwable is alive.
+	 *
+	 * @param thrown a throwable
+	 * @return the failure fingerprint
+	 */
+	@Nonnull
+	protected String getFailureFingerprint(@Nonnull final Throwable thrown) {
+		return failureFingerprints.computeIfAbsent(thrown, ExceptionFingerprint::of);
+	}
+
+	@Nonnull
+	private String getFailureMessage(@Nullable final String itemUuid, @Nonnull final Throwable thrown) {
+		if (itemUuid == null || !getJUnitParameters().isExceptionDeduplication()) {
+			return renderThrowable(thrown);
+		}
+		String fingerprint = getFailureFingerprint(thrown);
+		String firstItemUuid = reportedFailures.putIfAbsent(fingerprint, itemUuid);
+		if (firstItemUuid == null || firstItemUuid.equals(itemUuid)) {
+			return renderThrowable(thrown);
+		}
+		return String.format(DUPLICATE_FAILURE_MESSAGE_FORMAT, thrown, firstItemUuid, fingerprint);
 	}
 
 	/**
@@ -690,7 +997,7 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 			rq.setLevel(level.name());
 			rq.setLogTime(Instant.now());
 			if (thrown != null) {
-				rq.setMessage(ExceptionUtils.getStackTrace(thrown));
+				rq.setMessage(getFailureMessage(itemUuid, thrown));
 			} else {
 				rq.setMessage("Test has failed without exception");
 			}
@@ -768,12 +1075,13 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	@Nonnull
 	protected StartTestItemRQ buildStartSuiteRq(@Nonnull final Object runner, @Nullable final Instant startTime) {
+		SuiteDescriptor descriptor = getSuiteDescriptor(runner);
 		StartTestItemRQ rq = new StartTestItemRQ();
-		rq.setName(getRunnerName(runner));
-		rq.setCodeRef(getCodeRef(runner));
+		rq.setName(descriptor.getName());
+		rq.setCodeRef(descriptor.getCodeRef());
 		rq.setStartTime(startTime);
 		rq.setType(ItemType.SUITE.name());
-		rq.setAttributes(getAttributes(LifecycleHooks.getTestClassOf(runner)));
+		rq.setAttributes(descriptor.getAttributes());
 		return rq;
 	}
 
@@ -786,12 +1094,13 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	@Nonnull
 	protected StartTestItemRQ buildStartTestItemRq(@Nonnull final Object runner, @Nullable final Instant startTime) {
+		SuiteDescriptor descriptor = getSuiteDescriptor(runner);
 		StartTestItemRQ rq = new StartTestItemRQ();
-		rq.setName(getRunnerName(runner));
-		rq.setCodeRef(getCodeRef(runner));
+		rq.setName(descriptor.getName());
+		rq.setCodeRef(descriptor.getCodeRef());
 		rq.setStartTime(startTime);
 		rq.setType(ItemType.TEST.name());
-		rq.setAttributes(getAttributes(LifecycleHooks.getTestClassOf(runner)));
+		rq.setAttributes(descriptor.getAttributes());
 		return rq;
 	}
 
@@ -813,7 +1122,8 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 		rq.setCodeRef(getCodeRef(method));
 		rq.setAttributes(getAttributes(method));
 		rq.setDescription(createStepDescription(description, method));
-		rq.setParameters(getStepParameters(method, runner, callable));
+		rq.setParameters(ofNullable(getTestIdentity(description, runner, method)).map(TestIdentity::getParameters)
+				.orElseGet(() -> getStepParameters(method, runner, callable)));
 		rq.setTestCaseId(ofNullable(getTestCaseId(
 				runner,
 				method,
@@ -855,11 +1165,19 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 		rq.setEndTime(Instant.now());
 		rq.setStatus(status.name());
 		if (status != ItemStatus.PASSED && testThrowable != null && method != null) {
+			String error = getJUnitParameters().isDescriptionTraceReference() ?
+					testThrowable + "\n" + DESCRIPTION_TRACE_REFERENCE_MESSAGE :
+					renderThrowable(testThrowable);
 			rq.setDescription(String.format(
 					DESCRIPTION_TEST_ERROR_FORMAT,
 					createStepDescription(this.context.getTestMethodDescription(method), method),
-					ExceptionUtils.getStackTrace(testThrowable)
+					error
 			));
+			if (getJUnitParameters().isExceptionDeduplication()) {
+				rq.setAttributes(Collections.singleton(new ItemAttributesRQ(FAILURE_FINGERPRINT_ATTRIBUTE,
+						getFailureFingerprint(testThrowable)
+				)));
+			}
 		}
 		return rq;
 	}
@@ -916,6 +1234,10 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 		Executable executable = runner instanceof BlockJUnit4ClassRunnerWithParameters ?
 				Arrays.stream(frameworkMethod.getDeclaringClass().getConstructors()).findAny().map(c -> (Executable) c).orElse(method) :
 				method;
+		TestCaseIdTemplate template = getMethodDescriptor(frameworkMethod).getTestCaseIdTemplate();
+		if (template != null) {
+			return template.getTestCaseId(executable, codeRef, params, testInstance);
+		}
 		return TestCaseIdUtils.getTestCaseId(method.getAnnotation(TestCaseId.class), executable, codeRef, params, testInstance);
 	}
 
@@ -968,27 +1290,17 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 					for (Map.Entry<String, Object> param : params.get().entrySet()) {
 						ParameterResource parameter = new ParameterResource();
 						parameter.setKey(param.getKey());
-						parameter.setValue(Objects.toString(param.getValue(), null));
+						parameter.setValue(renderParameter(param.getValue()));
 						result.add(parameter);
 					}
 				}
 			} else if (runner instanceof BlockJUnit4ClassRunnerWithParameters) {
-				try {
-					Optional<Constructor<?>> constructor = Arrays.stream(method.getDeclaringClass().getConstructors()).findFirst();
-					if (constructor.isPresent()) {
-						Object[] params = (Object[]) Accessible.on(runner).field("parameters").getValue();
-						if (params != null) {
-							result.addAll(ParameterUtils.getParameters(constructor.get(), Arrays.asList(params)));
-						}
-					}
-				} catch (NoSuchFieldException e) {
-					LOGGER.warn("Unable to get parameters for parameterized runner", e);
-				}
+				result.addAll(getRunnerParameters(runner, method.getDeclaringClass()));
 			} else if (callable != null) {
 				try {
-					Object[] params = (Object[]) Accessible.on(callable).field("val$params").getValue();
+					Object[] params = (Object[]) CALLABLE_PARAMETERS.getValue(callable);
 					if (params != null) {
-						result.addAll(ParameterUtils.getParameters(method.getMethod(), Arrays.asList(params)));
+						result.addAll(ParameterUtils.getParameters(method.getMethod(), renderParameters(params)));
 					}
 				} catch (NoSuchFieldException e) {
 					LOGGER.warn("Unable to get parameters for parameterized runner", e);
@@ -998,6 +1310,74 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 		return result;
 	}
 
+	@Nullable
+	private ParameterRenderer getParameterRenderer() {
+		JUnitParameters parameters = getJUnitParameters();
+		int maxLength = parameters.getParameterMaxLength();
+		if (maxLength <= 0) {
+			return null;
+		}
+		ParameterRenderer renderer = parameterRenderer;
+		if (renderer == null || renderer.getMaxLength() != maxLength || renderer.getMaxDepth() != parameters.getParameterMaxDepth()) {
+			renderer = new ParameterRenderer(maxLength, parameters.getParameterMaxDepth());
+			parameterRenderer = renderer;
+		}
+		return renderer;
+	}
+
+	/**
+	 * Extension point to customize conversion of a test parameter value to a string. By default, values are limited with
+	 * {@link JUnitParameters#getParameterMaxLength()} if it's set.
+	 *
+	 * @param value a test parameter value
+	 * @return a parameter value being sent to Report Portal
+	 */
+	@Nullable
+	protected String renderParameter(@Nullable final Object value) {
+		ParameterRenderer renderer = getParameterRenderer();
+		return renderer == null ? Objects.toString(value, null) : renderer.render(value);
+	}
+
+	@Nonnull
+	private List<?> renderParameters(@Nonnull final Object[] params) {
+		// 'null' values are left as is, so they are still reported as a 'NULL' string
+		return Arrays.stream(params).map(p -> p == null ? null : renderParameter(p)).collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns constructor parameters of a parameterized runner. They are the same for all test methods of the runner, so they are
+	 * extracted once and kept until the runner is finished.
+	 *
+	 * @param runner    JUnit parameterized runner
+	 * @param testClass a class which declares the test method
+	 * @return an immutable list of parameters
+	 */
+	@Nonnull
+	private List<ParameterResource> getRunnerParameters(@Nonnull final Object runner, @Nonnull final Class<?> testClass) {
+		Map.Entry<Class<?>, List<ParameterResource>> cached = runnerParameters.get(runner);
+		if (cached != null && cached.getKey() == testClass) {
+			return cached.getValue();
+		}
+		List<ParameterResource> result = new ArrayList<>();
+		try {
+			Optional<Constructor<?>> constructor = Arrays.stream(testClass.getConstructors()).findFirst();
+			if (constructor.isPresent()) {
+				Object[] params = (Object[]) RUNNER_PARAMETERS.getValue(runner);
+				if (params != null) {
+					result.addAll(ParameterUtils.getParameters(constructor.get(), renderParameters(params)));
+				}
+			}
+		} catch (NoSuchFieldException e) {
+			LOGGER.warn("Unable to get parameters for parameterized runner", e);
+		}
+		List<ParameterResource> parameters = Collections.unmodifiableList(result);
+		// cache only started runners, 'stopRunner' drops them
+		if (runnerChains.containsKey(runner)) {
+			runnerParameters.put(runner, new AbstractMap.SimpleImmutableEntry<>(testClass, parameters));
+		}
+		return parameters;
+	}
+
 	/**
 	 * Get the JUnit test class instance for the specified class runner.
 	 * <p>
@@ -1022,8 +1402,38 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	@Nullable
 	protected String createStepDescription(@Nullable final Description description, @Nonnull final FrameworkMethod method) {
-		DisplayName itemDisplayName = method.getAnnotation(DisplayName.class);
-		return (itemDisplayName != null) ? itemDisplayName.value() : ofNullable(description).map(Description::getDisplayName).orElse(null);
+		String displayName = getMethodDescriptor(method).getDisplayName();
+		return (displayName != null) ? displayName : ofNullable(description).map(Description::getDisplayName).orElse(null);
+	}
+
+	/**
+	 * Returns metadata of the specified JUnit runner. Metadata of started runners is calculated once and kept until the runner is
+	 * finished.
+	 *
+	 * @param runner JUnit test runner
+	 * @return runner metadata
+	 */
+	@Nonnull
+	protected SuiteDescriptor getSuiteDescriptor(@Nonnull final Object runner) {
+		SuiteDescriptor descriptor = suiteDescriptors.get(runner);
+		return descriptor != null ? descriptor : createSuiteDescriptor(runner);
+	}
+
+	/**
+	 * Extension point to customize runner metadata. By default it's collected with {@link #getRunnerName(Object)},
+	 * {@link #getCodeRef(Object)} and {@link #getAttributes(TestClass)} methods.
+	 *
+	 * @param runner JUnit test runner
+	 * @return runner metadata
+	 */
+	@Nonnull
+	protected SuiteDescriptor createSuiteDescriptor(@Nonnull final Object runner) {
+		return new SuiteDescriptor(
+				getRunnerName(runner),
+				getCodeRef(runner),
+				getAttributes(LifecycleHooks.getTestClassOf(runner)),
+				LifecycleHooks.getParentOf(runner)
+		);
 	}
 
 	/**
@@ -1068,11 +1478,11 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	@Nonnull
 	protected String getCodeRef(@Nonnull final FrameworkMethod frameworkMethod) {
-		return TestCaseIdUtils.getCodeRef(frameworkMethod.getMethod());
+		return getMethodDescriptor(frameworkMethod).getCodeRef();
 	}
 
 	@Nonnull
-	private Set<ItemAttributesRQ> getAttributes(@Nonnull final AnnotatedElement annotatedElement) {
+	private static Set<ItemAttributesRQ> getAttributes(@Nonnull final AnnotatedElement annotatedElement) {
 		return ofNullable(annotatedElement.getAnnotation(Attributes.class)).map(AttributeParser::retrieveAttributes)
 				.orElse(Collections.emptySet());
 	}
@@ -1087,7 +1497,7 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	protected Set<ItemAttributesRQ> getAttributes(@Nonnull final TestClass testClass) {
 		Stream<ItemAttributesRQ> categories = ofNullable(testClass.getAnnotation(Category.class)).stream()
 				.flatMap(a -> Arrays.stream(a.value()).map(c -> new ItemAttributesRQ(null, c.getSimpleName())));
-		Stream<ItemAttributesRQ> attributes = ofNullable(testClass.getJavaClass()).map(this::getAttributes)
+		Stream<ItemAttributesRQ> attributes = ofNullable(testClass.getJavaClass()).map(ReportPortalListener::getAttributes)
 				.stream()
 				.flatMap(Collection::stream);
 		return Stream.concat(categories, attributes).collect(Collectors.toSet());
@@ -1101,12 +1511,7 @@ public class ReportPortalListener implements ShutdownListener, RunnerWatcher, Ru
 	 */
 	@Nonnull
 	protected Set<ItemAttributesRQ> getAttributes(@Nonnull final FrameworkMethod frameworkMethod) {
-		Stream<ItemAttributesRQ> categories = ofNullable(frameworkMethod.getAnnotation(Category.class)).stream()
-				.flatMap(a -> Arrays.stream(a.value()).map(c -> new ItemAttributesRQ(null, c.getSimpleName())));
-		Stream<ItemAttributesRQ> attributes = ofNullable(frameworkMethod.getMethod()).map(this::getAttributes)
-				.orElse(Collections.emptySet())
-				.stream();
-		return Stream.concat(categories, attributes).collect(Collectors.toSet());
+		return getMethodDescriptor(frameworkMethod).getAttributes();
 	}
 
 	/**
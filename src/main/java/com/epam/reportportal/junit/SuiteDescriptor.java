@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JUnit runner metadata: a suite name, a code reference, static attributes of the test class and a parent runner. A descriptor
+ * is calculated once a runner is started and used for all suite requests and Item Tree lookups of the runner.
+ */
+public class SuiteDescriptor {
+
+	private final String name;
+	private final TestItemTree.ItemTreeKey key;
+	private final String codeRef;
+	private final Set<ItemAttributesRQ> attributes;
+	private final Object parent;
+
+	public SuiteDescriptor(@Nonnull String name, @Nullable String codeRef, @Nonnull Set<ItemAttributesRQ> attributes,
+			@Nullable Object parent) {
+		this.name = name;
+		this.key = TestItemTree.ItemTreeKey.of(name);
+		this.codeRef = codeRef;
+		this.attributes = Collections.unmodifiableSet(attributes);
+		this.parent = parent;
+	}
+
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns a key of the suite in Item Tree
+	 *
+	 * @return Item Tree key
+	 */
+	@Nonnull
+	public TestItemTree.ItemTreeKey getKey() {
+		return key;
+	}
+
+	@Nullable
+	public String getCodeRef() {
+		return codeRef;
+	}
+
+	/**
+	 * Returns a copy of the suite attributes, so a request can't modify the cached ones
+	 *
+	 * @return a set of attributes
+	 */
+	@Nonnull
+	public Set<ItemAttributesRQ> getAttributes() {
+		return attributes.stream()
+				.map(a -> new ItemAttributesRQ(a.getKey(), a.getValue(), a.isSystem()))
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Returns a parent runner
+	 *
+	 * @return the parent runner or null if the runner is a root one
+	 */
+	@Nullable
+	public Object getParent() {
+		return parent;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.annotations.TestCaseId;
+import com.epam.reportportal.service.item.TestCaseIdEntry;
+import com.epam.reportportal.utils.TestCaseIdUtils;
+import com.epam.reportportal.utils.formatting.templating.TemplateConfiguration;
+import com.epam.reportportal.utils.formatting.templating.TemplateProcessing;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * A {@link TestCaseId} value parsed into literal text and placeholders. The template is parsed once per method, so a test case
+ * ID calculation only resolves placeholder values. Placeholders and their formatting follow
+ * {@link TemplateProcessing#processTemplate(String, Object, Executable, java.util.Map, TemplateConfiguration)}.
+ */
+public class TestCaseIdTemplate {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TestCaseIdTemplate.class);
+
+	private static final Pattern TEMPLATE_GROUP = Pattern.compile("\\{([\\w$]+(\\.[\\w$]+)*)}");
+
+	private final TemplateConfiguration configuration;
+	private final boolean parametrized;
+	private final List<Object> parts;
+
+	private static final class Placeholder {
+		private final String text;
+		private final String[] fields;
+		private final int index;
+
+		private Placeholder(@Nonnull String text, @Nonnull String[] fields) {
+			this.text = text;
+			this.fields = fields;
+			this.index = parseIndex(fields[0]);
+		}
+
+		private static int parseIndex(@Nonnull String name) {
+			for (int i = 0; i < name.length(); i++) {
+				if (!Character.isDigit(name.charAt(i))) {
+					return -1;
+				}
+			}
+			try {
+				return Integer.parseInt(name);
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+	}
+
+	private TestCaseIdTemplate(@Nonnull TestCaseId annotation) {
+		configuration = new TemplateConfiguration(annotation.config());
+		parametrized = annotation.parametrized();
+		String delimiter = Pattern.quote(configuration.getFieldDelimiter());
+		String pattern = annotation.value();
+		List<Object> result = new ArrayList<>();
+		Matcher matcher = TEMPLATE_GROUP.matcher(pattern);
+		int position = 0;
+		while (matcher.find()) {
+			if (matcher.start() > position) {
+				result.add(pattern.substring(position, matcher.start()));
+			}
+			result.add(new Placeholder(matcher.group(0), matcher.group(1).split(delimiter)));
+			position = matcher.end();
+		}
+		if (position < pattern.length()) {
+			result.add(pattern.substring(position));
+		}
+		parts = Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Parses a {@link TestCaseId} annotation value
+	 *
+	 * @param annotation the annotation or null if a method is not annotated
+	 * @return the parsed template or null if the annotation has no value
+	 */
+	@Nullable
+	public static TestCaseIdTemplate compile(@Nullable TestCaseId annotation) {
+		if (annotation == null || annotation.value().isEmpty()) {
+			return null;
+		}
+		return new TestCaseIdTemplate(annotation);
+	}
+
+	@Nullable
+	private Object getValue(@Nonnull Placeholder placeholder, @Nonnull Executable executable, @Nullable List<?> params,
+			@Nullable Object testInstance, boolean[] found) {
+		String name = placeholder.fields[0];
+		found[0] = true;
+		if (testInstance != null && name.equals(configuration.getSelfName())) {
+			return testInstance;
+		}
+		if (name.equals(configuration.getMethodName())) {
+			return executable.getName();
+		}
+		if (name.equals(configuration.getClassName())) {
+			return executable.getDeclaringClass().getSimpleName();
+		}
+		if (name.equals(configuration.getClassRef())) {
+			return executable.getDeclaringClass().getName();
+		}
+		if (params != null && placeholder.index >= 0 && placeholder.index < params.size()) {
+			return params.get(placeholder.index);
+		}
+		found[0] = false;
+		return null;
+	}
+
+	@Nonnull
+	private String process(@Nonnull Executable executable, @Nullable List<?> params, @Nullable Object testInstance) {
+		StringBuilder result = new StringBuilder();
+		boolean[] found = new boolean[1];
+		for (Object part : parts) {
+			if (!(part instanceof Placeholder)) {
+				result.append((String) part);
+				continue;
+			}
+			Placeholder placeholder = (Placeholder) part;
+			Object value = getValue(placeholder, executable, params, testInstance, found);
+			if (!found[0]) {
+				LOGGER.error("Param - {} was not found", placeholder.fields[0]);
+				result.append(placeholder.text);
+				continue;
+			}
+			try {
+				result.append(TemplateProcessing.retrieveValue(configuration, 1, placeholder.fields, value));
+			} catch (Throwable e) {
+				LOGGER.error("Unable to parse: {}", placeholder.text, e);
+				result.append(placeholder.text);
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Calculates a test case ID, the same way as
+	 * {@link TestCaseIdUtils#getTestCaseId(TestCaseId, Executable, String, List, Object)} does
+	 *
+	 * @param executable   a test method or a constructor of a parameterized test
+	 * @param codeRef      a code reference which is used if the ID is parametrized, but there are no parameters
+	 * @param params       a list of test arguments
+	 * @param testInstance an instance of a test
+	 * @param <T>          arguments type
+	 * @return a test case ID
+	 */
+	@Nullable
+	public <T> TestCaseIdEntry getTestCaseId(@Nonnull Executable executable, @Nullable String codeRef, @Nullable List<T> params,
+			@Nullable Object testInstance) {
+		String id = process(executable, params, testInstance);
+		if (!parametrized) {
+			return new TestCaseIdEntry(id);
+		}
+		return ofNullable(TestCaseIdUtils.getParametersForTestCaseId(executable, params)).map(p -> new TestCaseIdEntry(
+						id + (p.startsWith("[") ? p : "[" + p + "]")))
+				.orElseGet(() -> ofNullable(codeRef).map(c -> TestCaseIdUtils.getTestCaseId(c, params))
+						.orElseGet(() -> TestCaseIdUtils.getTestCaseId(executable, params)));
+	}
+}
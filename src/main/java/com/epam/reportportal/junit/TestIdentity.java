@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.junit.runners.model.FrameworkMethod;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test method identity inside Item Tree: a test item key and step parameters, calculated once per test and shared by all
+ * listener callbacks of the test.
+ */
+public class TestIdentity {
+
+	private final Object runner;
+	private final FrameworkMethod method;
+	private final TestItemTree.ItemTreeKey key;
+	private final List<ParameterResource> parameters;
+	private final int ordinal;
+
+	public TestIdentity(@Nonnull Object runner, @Nonnull FrameworkMethod method, @Nonnull TestItemTree.ItemTreeKey key,
+			@Nullable List<ParameterResource> parameters) {
+		this(runner, method, key, parameters, -1);
+	}
+
+	public TestIdentity(@Nonnull Object runner, @Nonnull FrameworkMethod method, @Nonnull TestItemTree.ItemTreeKey key,
+			@Nullable List<ParameterResource> parameters, int ordinal) {
+		this.runner = runner;
+		this.method = method;
+		this.key = key;
+		this.parameters = parameters == null ? null : Collections.unmodifiableList(parameters);
+		this.ordinal = ordinal;
+	}
+
+	/**
+	 * Check if the identity belongs to the given test method invocation
+	 *
+	 * @param runner JUnit test runner
+	 * @param method JUnit framework method context
+	 * @return {@code true} if the identity was calculated for the same runner and method
+	 */
+	public boolean isOf(@Nonnull Object runner, @Nonnull FrameworkMethod method) {
+		return this.runner == runner && this.method.equals(method);
+	}
+
+	@Nonnull
+	public FrameworkMethod getMethod() {
+		return method;
+	}
+
+	@Nonnull
+	public TestItemTree.ItemTreeKey getKey() {
+		return key;
+	}
+
+	@Nullable
+	public List<ParameterResource> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Returns a dense test ordinal, which is used to store test status in {@link TestStatusArray}
+	 *
+	 * @return the ordinal or -1 if the test status is stored by its key
+	 */
+	public int getOrdinal() {
+		return ordinal;
+	}
+}
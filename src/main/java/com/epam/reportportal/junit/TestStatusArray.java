@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test statuses indexed by dense test ordinals. Each test takes one byte in a chunked array, throwables are kept in a sparse
+ * table which holds failed and skipped tests only.
+ */
+public class TestStatusArray {
+
+	private static final int CHUNK_BITS = 12;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	private static final VarHandle STATUS = MethodHandles.arrayElementVarHandle(byte[].class);
+	private static final ItemStatus[] STATUSES = ItemStatus.values();
+
+	private final AtomicInteger ordinals = new AtomicInteger();
+	private final Map<Integer, Throwable> throwables = new ConcurrentHashMap<>();
+	private volatile byte[][] chunks = new byte[16][];
+
+	/**
+	 * Allocates a new test ordinal
+	 *
+	 * @return the next free ordinal
+	 */
+	public int nextOrdinal() {
+		return ordinals.getAndIncrement();
+	}
+
+	@Nullable
+	private byte[] getChunk(int ordinal) {
+		byte[][] current = chunks;
+		int index = ordinal >>> CHUNK_BITS;
+		return index < current.length ? current[index] : null;
+	}
+
+	@Nonnull
+	private byte[] getOrCreateChunk(int ordinal) {
+		byte[] chunk = getChunk(ordinal);
+		if (chunk != null) {
+			return chunk;
+		}
+		synchronized (this) {
+			int index = ordinal >>> CHUNK_BITS;
+			byte[][] current = chunks;
+			if (index >= current.length) {
+				current = Arrays.copyOf(current, Math.max(current.length * 2, index + 1));
+			}
+			chunk = current[index];
+			if (chunk == null) {
+				chunk = new byte[CHUNK_SIZE];
+				current[index] = chunk;
+			}
+			chunks = current;
+			return chunk;
+		}
+	}
+
+	@Nullable
+	private static ItemStatus decode(byte code) {
+		return code == 0 ? null : STATUSES[code - 1];
+	}
+
+	@Nullable
+	public ItemStatus getStatus(int ordinal) {
+		byte[] chunk = getChunk(ordinal);
+		return chunk == null ? null : decode((byte) STATUS.getVolatile(chunk, ordinal & CHUNK_MASK));
+	}
+
+	@Nullable
+	public ItemStatus setStatus(int ordinal, @Nullable ItemStatus status) {
+		byte code = status == null ? 0 : (byte) (status.ordinal() + 1);
+		return decode((byte) STATUS.getAndSet(getOrCreateChunk(ordinal), ordinal & CHUNK_MASK, code));
+	}
+
+	@Nullable
+	public Throwable getThrowable(int ordinal) {
+		return throwables.get(ordinal);
+	}
+
+	public void setThrowable(int ordinal, @Nullable Throwable throwable) {
+		if (throwable == null) {
+			throwables.remove(ordinal);
+		} else {
+			throwables.put(ordinal, throwable);
+		}
+	}
+}
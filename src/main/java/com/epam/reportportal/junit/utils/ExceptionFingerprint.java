@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit.utils;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Calculates a fingerprint of a normalized stack trace: exception types and stack frames of a throwable, its causes and
+ * suppressed exceptions. Exception messages are left out, since they often hold variable data, so the same failure thrown by
+ * different tests has the same fingerprint.
+ */
+public class ExceptionFingerprint {
+
+	private ExceptionFingerprint() {
+		//static only
+	}
+
+	/**
+	 * Calculates a fingerprint of a throwable
+	 *
+	 * @param thrown a throwable
+	 * @return a fixed-size hexadecimal fingerprint
+	 */
+	@Nonnull
+	public static String of(@Nonnull Throwable thrown) {
+		Fingerprint fingerprint = new Fingerprint();
+		add(fingerprint, thrown, Collections.newSetFromMap(new IdentityHashMap<>()));
+		return fingerprint.toString();
+	}
+
+	private static void add(@Nonnull Fingerprint fingerprint, @Nonnull Throwable thrown, @Nonnull Set<Throwable> visited) {
+		if (!visited.add(thrown)) {
+			fingerprint.add(null);
+			return;
+		}
+		fingerprint.add(thrown.getClass().getName());
+		StackTraceElement[] trace = thrown.getStackTrace();
+		fingerprint.add(String.valueOf(trace.length));
+		for (StackTraceElement frame : trace) {
+			fingerprint.add(frame.getClassName());
+			fingerprint.add(frame.getMethodName());
+			fingerprint.add(frame.getFileName());
+			fingerprint.add(String.valueOf(frame.getLineNumber()));
+		}
+		Throwable[] suppressed = thrown.getSuppressed();
+		fingerprint.add(String.valueOf(suppressed.length));
+		for (Throwable s : suppressed) {
+			add(fingerprint, s, visited);
+		}
+		Throwable cause = thrown.getCause();
+		if (cause == null) {
+			fingerprint.add(null);
+		} else {
+			add(fingerprint, cause, visited);
+		}
+	}
+}
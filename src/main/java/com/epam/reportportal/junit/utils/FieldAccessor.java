@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit.utils;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+/**
+ * Reads a field with the given name from objects of any class. The field is looked up once per class, including superclasses,
+ * and then read through a cached {@link MethodHandle}. Classes without such field are cached too.
+ */
+public class FieldAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final String name;
+	private final ClassValue<Optional<MethodHandle>> getters = new ClassValue<>() {
+		@Override
+		protected Optional<MethodHandle> computeValue(Class<?> type) {
+			return findGetter(type);
+		}
+	};
+
+	public FieldAccessor(@Nonnull String fieldName) {
+		name = fieldName;
+	}
+
+	@Nonnull
+	private Optional<MethodHandle> findGetter(@Nonnull Class<?> type) {
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			try {
+				Field field = c.getDeclaredField(name);
+				field.setAccessible(true);
+				return Optional.of(MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE));
+			} catch (NoSuchFieldException e) {
+				// look in the superclass
+			} catch (IllegalAccessException | RuntimeException e) {
+				// the field is not accessible (e.g. module restrictions)
+				return Optional.empty();
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Check if the field can be read from objects of the given class
+	 *
+	 * @param type a class to check
+	 * @return {@code true} if the field exists and is accessible
+	 */
+	public boolean isPresent(@Nonnull Class<?> type) {
+		return getters.get(type).isPresent();
+	}
+
+	/**
+	 * Returns the field value of the given object
+	 *
+	 * @param object an object to read
+	 * @return the field value
+	 * @throws NoSuchFieldException if the object has no accessible field with such name
+	 */
+	@Nullable
+	public Object getValue(@Nonnull Object object) throws NoSuchFieldException {
+		MethodHandle getter = getters.get(object.getClass()).orElseThrow(() -> new NoSuchFieldException(name));
+		try {
+			return (Object) getter.invokeExact(object);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
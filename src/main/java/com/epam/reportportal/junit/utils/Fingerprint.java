@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit.utils;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Two independent 64-bit hashes calculated in one pass: FNV-1a and a multiply-rotate hash. Every added value is prefixed with
+ * its length (or a null marker), so different value splits can't produce the same input sequence.
+ */
+class Fingerprint {
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long MIX_MULTIPLIER = 0x9e3779b97f4a7c15L;
+
+	private long first = 0xcbf29ce484222325L;
+	private long second = 0xc4ceb9fe1a85ec53L;
+
+	private void add(char c) {
+		first = (first ^ c) * FNV_PRIME;
+		second = Long.rotateLeft(second ^ c, 29) * MIX_MULTIPLIER;
+	}
+
+	private void addLength(int length) {
+		add((char) (length >>> 16));
+		add((char) length);
+	}
+
+	void add(@Nullable String value) {
+		if (value == null) {
+			addLength(-1);
+			return;
+		}
+		int length = value.length();
+		addLength(length);
+		for (int i = 0; i < length; i++) {
+			add(value.charAt(i));
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (first ^ (first >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%016x%016x", first, second);
+	}
+}
@@ -62,6 +62,31 @@ public class ItemTreeUtils {
 		return TestItemTree.ItemTreeKey.of(strKey);
 	}
 
+	/**
+	 * Creates an Item Tree key of a fixed size: a 128-bit fingerprint of a method identity and its parameters. Unlike
+	 * {@link #createItemTreeKey(FrameworkMethod, List)} the key does not hold parameter values, so its memory footprint and
+	 * comparison cost do not depend on parameter length.
+	 *
+	 * @param method     JUnit framework method context
+	 * @param parameters method parameters
+	 * @return an Item Tree key
+	 */
+	@Nonnull
+	public static TestItemTree.ItemTreeKey createFingerprintItemTreeKey(@Nonnull FrameworkMethod method,
+			@Nullable List<ParameterResource> parameters) {
+		Fingerprint fingerprint = new Fingerprint();
+		fingerprint.add(method.getDeclaringClass().getName());
+		fingerprint.add(method.getName());
+		if (parameters != null) {
+			fingerprint.add(String.valueOf(parameters.size()));
+			for (ParameterResource parameter : parameters) {
+				fingerprint.add(parameter.getKey());
+				fingerprint.add(parameter.getValue());
+			}
+		}
+		return TestItemTree.ItemTreeKey.of(fingerprint.toString(), fingerprint.hashCode());
+	}
+
 	@Nonnull
 	public static TestItemTree.ItemTreeKey createItemTreeKey(@Nonnull AtomicTest test) {
 		return TestItemTree.ItemTreeKey.of(test.getDescription().getDisplayName());
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit.utils;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Converts test parameter values to strings of a limited length. Arrays, collections and maps are rendered element by element
+ * until the length limit is reached, so big test data is never converted to a string as a whole. Nested containers deeper
+ * than the depth limit are rendered as their type and size. Rendered values are cached by object identity while the object is
+ * alive, so parameter values are expected not to change during a test run.
+ */
+public class ParameterRenderer {
+
+	public static final String ELLIPSIS = "...";
+
+	private final int maxLength;
+	private final int maxDepth;
+	private final WeakIdentityCache<String> cache = new WeakIdentityCache<>();
+
+	/**
+	 * @param maxLength maximum length of a rendered value, longer values are cut and end with {@link #ELLIPSIS}
+	 * @param maxDepth  maximum depth of nested arrays, collections and maps which are rendered element by element
+	 */
+	public ParameterRenderer(int maxLength, int maxDepth) {
+		if (maxLength <= 0) {
+			throw new IllegalArgumentException("Maximum parameter length should be positive: " + maxLength);
+		}
+		this.maxLength = maxLength;
+		this.maxDepth = maxDepth;
+	}
+
+	public int getMaxLength() {
+		return maxLength;
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Renders a parameter value
+	 *
+	 * @param value a test parameter value
+	 * @return a string no longer than the maximum length or null if the value is null
+	 */
+	@Nullable
+	public String render(@Nullable Object value) {
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof CharSequence) {
+			return truncate(value.toString());
+		}
+		return cache.computeIfAbsent(value, v -> {
+			StringBuilder builder = new StringBuilder();
+			append(builder, v, 0);
+			return truncate(builder);
+		});
+	}
+
+	@Nonnull
+	private String truncate(@Nonnull CharSequence value) {
+		if (value.length() <= maxLength) {
+			return value.toString();
+		}
+		if (maxLength <= ELLIPSIS.length()) {
+			return value.subSequence(0, maxLength).toString();
+		}
+		return value.subSequence(0, maxLength - ELLIPSIS.length()) + ELLIPSIS;
+	}
+
+	private boolean isFull(@Nonnull StringBuilder builder) {
+		return builder.length() > maxLength;
+	}
+
+	private void appendString(@Nonnull StringBuilder builder, @Nonnull CharSequence value) {
+		int left = maxLength + 1 - builder.length();
+		builder.append(value, 0, Math.min(Math.max(left, 0), value.length()));
+	}
+
+	private void append(@Nonnull StringBuilder builder, @Nullable Object value, int depth) {
+		if (isFull(builder)) {
+			return;
+		}
+		if (value == null) {
+			builder.append("null");
+		} else if (value instanceof CharSequence) {
+			appendString(builder, (CharSequence) value);
+		} else if (value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			if (depth >= maxDepth) {
+				appendString(builder, value.getClass().getComponentType().getSimpleName() + "[" + length + "]");
+				return;
+			}
+			builder.append('[');
+			for (int i = 0; i < length && !isFull(builder); i++) {
+				if (i > 0) {
+					builder.append(", ");
+				}
+				append(builder, Array.get(value, i), depth + 1);
+			}
+			builder.append(']');
+		} else if (value instanceof Collection) {
+			Collection<?> collection = (Collection<?>) value;
+			if (depth >= maxDepth) {
+				appendString(builder, value.getClass().getSimpleName() + "(size=" + collection.size() + ")");
+				return;
+			}
+			builder.append('[');
+			Iterator<?> iterator = collection.iterator();
+			for (boolean first = true; iterator.hasNext() && !isFull(builder); first = false) {
+				if (!first) {
+					builder.append(", ");
+				}
+				Object element = iterator.next();
+				append(builder, element == collection ? "(this Collection)" : element, depth + 1);
+			}
+			builder.append(']');
+		} else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			if (depth >= maxDepth) {
+				appendString(builder, value.getClass().getSimpleName() + "(size=" + map.size() + ")");
+				return;
+			}
+			builder.append('{');
+			Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+			for (boolean first = true; iterator.hasNext() && !isFull(builder); first = false) {
+				if (!first) {
+					builder.append(", ");
+				}
+				Map.Entry<?, ?> entry = iterator.next();
+				append(builder, entry.getKey() == map ? "(this Map)" : entry.getKey(), depth + 1);
+				builder.append('=');
+				append(builder, entry.getValue() == map ? "(this Map)" : entry.getValue(), depth + 1);
+			}
+			builder.append('}');
+		} else {
+			appendString(builder, String.valueOf(value));
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit.utils;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.*;
+
+/**
+ * Renders a {@link Throwable} the same way as {@link Throwable#printStackTrace()} does, but leaves out frames of the test
+ * framework and reflection. Frames are filtered by class name prefixes: a frame is kept if its class matches an include prefix or
+ * doesn't match any exclude prefix. Each run of filtered frames is folded into a single line. Frames which a cause or a
+ * suppressed exception shares with its enclosing trace are folded into a "... n more" line, and each trace can be limited to a
+ * maximum number of printed frames.
+ */
+public class StackTraceCompactor {
+
+	/**
+	 * Frames of JUnit runners, junit-foundation, reflection, AspectJ and build tool launchers
+	 */
+	public static final List<String> DEFAULT_EXCLUDES = Collections.unmodifiableList(Arrays.asList(
+			"org.junit.runner.",
+			"org.junit.runners.",
+			"org.junit.internal.runners.",
+			"junit.framework.",
+			"com.nordstrom.automation.junit.",
+			"net.bytebuddy.",
+			"java.lang.reflect.",
+			"jdk.internal.reflect.",
+			"sun.reflect.",
+			"org.aspectj.",
+			"org.gradle.",
+			"worker.org.gradle.",
+			"org.apache.maven.surefire.",
+			"com.intellij.rt."
+	));
+
+	private static final String CAUSE_CAPTION = "Caused by: ";
+	private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+
+	private final List<String> includes;
+	private final List<String> excludes;
+	private final int maxDepth;
+
+	/**
+	 * @param includes class name prefixes of frames which are always kept
+	 * @param excludes class name prefixes of frames which are left out
+	 * @param maxDepth maximum number of frames printed for each trace, zero or a negative value means no limit
+	 */
+	public StackTraceCompactor(@Nonnull Collection<String> includes, @Nonnull Collection<String> excludes, int maxDepth) {
+		this.includes = Collections.unmodifiableList(new ArrayList<>(includes));
+		this.excludes = Collections.unmodifiableList(new ArrayList<>(excludes));
+		this.maxDepth = maxDepth;
+	}
+
+	@Nonnull
+	public List<String> getIncludes() {
+		return includes;
+	}
+
+	@Nonnull
+	public List<String> getExcludes() {
+		return excludes;
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	private static boolean matches(@Nonnull String className, @Nonnull List<String> prefixes) {
+		for (String prefix : prefixes) {
+			if (className.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isKept(@Nonnull StackTraceElement frame) {
+		String className = frame.getClassName();
+		return matches(className, includes) || !matches(className, excludes);
+	}
+
+	/**
+	 * Renders a throwable with its causes and suppressed exceptions
+	 *
+	 * @param thrown a throwable to render
+	 * @return compacted stack trace text
+	 */
+	@Nonnull
+	public String compact(@Nonnull Throwable thrown) {
+		StringBuilder builder = new StringBuilder();
+		Set<Throwable> rendered = Collections.newSetFromMap(new IdentityHashMap<>());
+		append(builder, thrown, null, "", "", rendered);
+		return builder.toString();
+	}
+
+	private void append(@Nonnull StringBuilder builder, @Nonnull Throwable thrown, @Nullable StackTraceElement[] enclosingTrace,
+			@Nonnull String caption, @Nonnull String prefix, @Nonnull Set<Throwable> rendered) {
+		if (!rendered.add(thrown)) {
+			builder.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(thrown).append("]\n");
+			return;
+		}
+		builder.append(prefix).append(caption).append(thrown).append('\n');
+
+		StackTraceElement[] trace = thrown.getStackTrace();
+		int last = trace.length - 1;
+		if (enclosingTrace != null) {
+			for (int j = enclosingTrace.length - 1; last >= 0 && j >= 0 && trace[last].equals(enclosingTrace[j]); last--, j--) {
+				// skip frames in common with the enclosing trace
+			}
+		}
+		int common = trace.length - 1 - last;
+
+		int printed = 0;
+		int filtered = 0;
+		int i = 0;
+		for (; i <= last; i++) {
+			if (!isKept(trace[i])) {
+				filtered++;
+				continue;
+			}
+			if (maxDepth > 0 && printed >= maxDepth) {
+				break;
+			}
+			appendFiltered(builder, prefix, filtered);
+			filtered = 0;
+			builder.append(prefix).append("\tat ").append(trace[i]).append('\n');
+			printed++;
+		}
+		if (i <= last) {
+			builder.append(prefix).append("\t... ").append(last - i + 1).append(" frames truncated\n");
+		} else {
+			appendFiltered(builder, prefix, filtered);
+		}
+		if (common > 0) {
+			builder.append(prefix).append("\t... ").append(common).append(" more\n");
+		}
+
+		for (Throwable suppressed : thrown.getSuppressed()) {
+			append(builder, suppressed, trace, SUPPRESSED_CAPTION, prefix + "\t", rendered);
+		}
+		Throwable cause = thrown.getCause();
+		if (cause != null) {
+			append(builder, cause, trace, CAUSE_CAPTION, prefix, rendered);
+		}
+	}
+
+	private static void appendFiltered(@Nonnull StringBuilder builder, @Nonnull String prefix, int filtered) {
+		if (filtered > 0) {
+			builder.append(prefix).append("\t... ").append(filtered).append(" filtered\n");
+		}
+	}
+}
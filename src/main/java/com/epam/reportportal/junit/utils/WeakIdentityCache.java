@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit.utils;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache of values calculated for objects. Objects are compared by identity and held weakly, so an entry is dropped
+ * once its object is garbage collected.
+ *
+ * @param <V> value type
+ */
+public class WeakIdentityCache<V> {
+
+	private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+	private final Map<IdentityKey, V> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns a cached value for the object or calculates and caches a new one. The value is calculated outside any lock, so two
+	 * threads may calculate it at the same time, but only the first result is cached and returned to both.
+	 *
+	 * @param object   an object to look up
+	 * @param function a function which calculates a value for the object
+	 * @param <K>      object type
+	 * @return the cached value
+	 */
+	@Nonnull
+	public <K> V computeIfAbsent(@Nonnull K object, @Nonnull Function<? super K, ? extends V> function) {
+		expunge();
+		V value = cache.get(new IdentityKey(object, null));
+		if (value != null) {
+			return value;
+		}
+		V newValue = function.apply(object);
+		V oldValue = cache.putIfAbsent(new IdentityKey(object, collected), newValue);
+		return oldValue != null ? oldValue : newValue;
+	}
+
+	@Nullable
+	public V get(@Nonnull Object object) {
+		return cache.get(new IdentityKey(object, null));
+	}
+
+	public int size() {
+		expunge();
+		return cache.size();
+	}
+
+	private void expunge() {
+		for (Object key; (key = collected.poll()) != null; ) {
+			//noinspection SuspiciousMethodCalls
+			cache.remove(key);
+		}
+	}
+
+	private static final class IdentityKey extends WeakReference<Object> {
+		private final int hash;
+
+		private IdentityKey(@Nonnull Object referent, @Nullable ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof IdentityKey)) {
+				return false;
+			}
+			Object referent = get();
+			return referent != null && referent == ((IdentityKey) obj).get();
+		}
+	}
+}
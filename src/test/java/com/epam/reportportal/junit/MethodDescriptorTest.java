@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class MethodDescriptorTest {
+
+	@Test
+	public void verify_descriptor_returns_attribute_copies() {
+		MethodDescriptor descriptor = new MethodDescriptor(ItemType.STEP,
+				"com.example.Test.method",
+				Collections.singleton(new ItemAttributesRQ("key", "value")),
+				null
+		);
+
+		Set<ItemAttributesRQ> attributes = descriptor.getAttributes();
+		assertThat(attributes, hasSize(1));
+		attributes.iterator().next().setValue("changed");
+
+		ItemAttributesRQ attribute = descriptor.getAttributes().iterator().next();
+		assertThat(attribute.getKey(), equalTo("key"));
+		assertThat(attribute.getValue(), equalTo("value"));
+		assertThat(descriptor.getCodeRef(), sameInstance("com.example.Test.method".intern()));
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.annotations.TestCaseId;
+import com.epam.reportportal.service.item.TestCaseIdEntry;
+import com.epam.reportportal.utils.TestCaseIdUtils;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TestCaseIdTemplateTest {
+
+	@SuppressWarnings("unused")
+	private final String field = "field-value";
+
+	@SuppressWarnings("unused")
+	private final List<String> list = Arrays.asList("one", "two");
+
+	@TestCaseId("static-id")
+	public void staticId(String first, String second) {
+	}
+
+	@TestCaseId("{classRef}.{class}.{method}")
+	public void names(String first, String second) {
+	}
+
+	@TestCaseId("id-{this.field}-{this.list}-{this.missing}")
+	public void fields(String first, String second) {
+	}
+
+	@TestCaseId("id-{0}-{1}-{2}-{unknown}")
+	public void parameters(String first, String second) {
+	}
+
+	@TestCaseId(value = "id-{0}", parametrized = true)
+	public void parametrized(String first, String second) {
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "staticId", "names", "fields", "parameters", "parametrized" })
+	public void verify_compiled_template_gives_the_same_id_as_client_utils(String methodName) throws NoSuchMethodException {
+		Method method = TestCaseIdTemplateTest.class.getMethod(methodName, String.class, String.class);
+		TestCaseId annotation = method.getAnnotation(TestCaseId.class);
+		List<String> params = Arrays.asList("first", "second");
+		String codeRef = TestCaseIdUtils.getCodeRef(method);
+
+		TestCaseIdTemplate template = TestCaseIdTemplate.compile(annotation);
+		assertThat(template, notNullValue());
+
+		TestCaseIdEntry expected = TestCaseIdUtils.getTestCaseId(annotation, method, codeRef, params, this);
+		TestCaseIdEntry actual = template.getTestCaseId(method, codeRef, params, this);
+		assertThat(actual, notNullValue());
+		assertThat(actual.getId(), equalTo(expected.getId()));
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TestStatusArrayTest {
+
+	private static final ItemStatus[] STATUSES = ItemStatus.values();
+
+	@Test
+	public void verify_statuses_are_stored_by_ordinals_across_chunks() {
+		TestStatusArray array = new TestStatusArray();
+		int[] ordinals = IntStream.range(0, 100_000).map(i -> array.nextOrdinal()).toArray();
+		assertThat(ordinals[ordinals.length - 1], equalTo(ordinals.length - 1));
+
+		IntStream.of(ordinals).forEach(o -> assertThat(array.setStatus(o, STATUSES[o % STATUSES.length]), nullValue()));
+		IntStream.of(ordinals).forEach(o -> assertThat(array.getStatus(o), equalTo(STATUSES[o % STATUSES.length])));
+
+		assertThat(array.setStatus(42, ItemStatus.FAILED), equalTo(STATUSES[42 % STATUSES.length]));
+		assertThat(array.getStatus(42), equalTo(ItemStatus.FAILED));
+		assertThat(array.getStatus(ordinals.length + 100_000), nullValue());
+	}
+
+	@Test
+	public void verify_throwables_are_stored_for_failed_tests_only() {
+		TestStatusArray array = new TestStatusArray();
+		int passed = array.nextOrdinal();
+		int failed = array.nextOrdinal();
+		IllegalStateException error = new IllegalStateException("failed");
+
+		array.setThrowable(failed, error);
+
+		assertThat(array.getThrowable(passed), nullValue());
+		assertThat(array.getThrowable(failed), sameInstance(error));
+		array.setThrowable(failed, null);
+		assertThat(array.getThrowable(failed), nullValue());
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.exception;
+
+import com.epam.reportportal.junit.ReportPortalListener;
+import com.epam.reportportal.junit.features.exception.ExpectedExceptionThrownNextTest;
+import com.epam.reportportal.junit.utils.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.junit.utils.TestUtils.PROCESSING_TIMEOUT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ExpectedExceptionNonBlockingUpdateTest {
+
+	private final String classId = CommonUtils.namedId("class_");
+	private final List<String> methodIds = Stream.generate(() -> CommonUtils.namedId("method_")).limit(2).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executor = CommonUtils.testExecutor();
+	private final MaybeSubject<OperationCompletionRS> firstFinish = MaybeSubject.create();
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, null, classId, methodIds);
+		TestUtils.mockBatchLogging(client);
+		when(client.finishTestItem(same(methodIds.get(0)), any())).thenReturn(firstFinish, Maybe.just(new OperationCompletionRS()));
+		ReportPortalListener.setReportPortal(ReportPortal.create(client, TestUtils.standardParameters(), executor));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		CommonUtils.shutdownExecutorService(executor);
+	}
+
+	@Test
+	public void verify_item_update_does_not_block_test_thread() throws Exception {
+		CompletableFuture<Boolean> nextTestStarted = CompletableFuture.supplyAsync(() -> {
+			try {
+				return ExpectedExceptionThrownNextTest.NEXT_TEST_STARTED.await(PROCESSING_TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				return false;
+			} finally {
+				firstFinish.onSuccess(new OperationCompletionRS());
+			}
+		});
+
+		TestUtils.runClasses(ExpectedExceptionThrownNextTest.class);
+
+		assertThat("Next test started before the first finish request completed", nextTestStarted.get(), equalTo(Boolean.TRUE));
+		ArgumentCaptor<FinishTestItemRQ> finishTestCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, timeout(PROCESSING_TIMEOUT).times(2)).finishTestItem(same(methodIds.get(0)), finishTestCaptor.capture());
+
+		List<FinishTestItemRQ> items = finishTestCaptor.getAllValues();
+		assertThat(items.get(0).getStatus(), equalTo(ItemStatus.FAILED.name()));
+		assertThat(items.get(1).getStatus(), equalTo(ItemStatus.PASSED.name()));
+	}
+}
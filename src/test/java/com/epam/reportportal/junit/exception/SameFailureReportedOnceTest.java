@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.exception;
+
+import com.epam.reportportal.junit.JUnitParameters;
+import com.epam.reportportal.junit.ReportPortalListener;
+import com.epam.reportportal.junit.features.exception.SameFailureParameterizedTest;
+import com.epam.reportportal.junit.utils.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.junit.utils.TestUtils.PROCESSING_TIMEOUT;
+import static com.epam.reportportal.junit.utils.TestUtils.toSaveLogRQ;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class SameFailureReportedOnceTest {
+
+	private final String classId = CommonUtils.namedId("class_");
+	private final List<String> methodIds = Stream.generate(() -> CommonUtils.namedId("method_")).limit(2).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	private final ExecutorService executor = CommonUtils.testExecutor();
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, null, classId, methodIds);
+		TestUtils.mockBatchLogging(client);
+		ReportPortalListener.setReportPortal(ReportPortal.create(client, TestUtils.standardParameters(), executor));
+		JUnitParameters parameters = new JUnitParameters();
+		parameters.setExceptionDeduplication(true);
+		ReportPortalListener.setJUnitParameters(parameters);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		ReportPortalListener.setJUnitParameters(new JUnitParameters());
+		CommonUtils.shutdownExecutorService(executor);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_same_failure_stack_trace_is_sent_once() {
+		TestUtils.runClasses(SameFailureParameterizedTest.class);
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, timeout(PROCESSING_TIMEOUT)).finishTestItem(same(methodIds.get(0)), finishCaptor.capture());
+		verify(client, timeout(PROCESSING_TIMEOUT)).finishTestItem(same(methodIds.get(1)), finishCaptor.capture());
+
+		List<String> fingerprints = finishCaptor.getAllValues().stream().peek(rq -> {
+			assertThat(rq.getStatus(), equalTo(ItemStatus.FAILED.name()));
+			assertThat(rq.getAttributes(), hasSize(1));
+		}).map(rq -> rq.getAttributes().iterator().next()).peek(a -> {
+			assertThat(a.getKey(), equalTo(ReportPortalListener.FAILURE_FINGERPRINT_ATTRIBUTE));
+		}).map(ItemAttributesRQ::getValue).collect(Collectors.toList());
+		assertThat(fingerprints.get(0), equalTo(fingerprints.get(1)));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logRqCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(PROCESSING_TIMEOUT).atLeastOnce()).log(logRqCaptor.capture());
+		List<SaveLogRQ> errors = toSaveLogRQ(logRqCaptor.getAllValues()).stream()
+				.filter(l -> l.getMessage() != null && l.getMessage().contains(SameFailureParameterizedTest.ERROR_MESSAGE))
+				.collect(Collectors.toList());
+
+		List<SaveLogRQ> fullTraces = errors.stream()
+				.filter(l -> l.getMessage().contains("at " + SameFailureParameterizedTest.class.getName()))
+				.collect(Collectors.toList());
+		assertThat(fullTraces, hasSize(1));
+		assertThat(fullTraces.get(0).getItemUuid(), equalTo(methodIds.get(0)));
+
+		List<SaveLogRQ> references = errors.stream().filter(l -> methodIds.get(1).equals(l.getItemUuid())).collect(Collectors.toList());
+		assertThat(references, hasSize(1));
+		assertThat(references.get(0).getMessage(),
+				allOf(
+						containsString(SameFailureParameterizedTest.ERROR_MESSAGE + "two"),
+						containsString(methodIds.get(0)),
+						containsString(fingerprints.get(0)),
+						not(containsString("at " + SameFailureParameterizedTest.class.getName()))
+				)
+		);
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.features.exception;
+
+import org.junit.Test;
+
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CountingExceptionFailedTest {
+
+	public static final String ERROR_MESSAGE = "Counting exception";
+
+	public static class CountingException extends RuntimeException {
+		public static final AtomicInteger PRINT_CALLS = new AtomicInteger();
+
+		public CountingException(String message) {
+			super(message);
+		}
+
+		@Override
+		public void printStackTrace(PrintWriter s) {
+			PRINT_CALLS.incrementAndGet();
+			super.printStackTrace(s);
+		}
+	}
+
+	@Test
+	public void failedTest() {
+		throw new CountingException(ERROR_MESSAGE);
+	}
+}
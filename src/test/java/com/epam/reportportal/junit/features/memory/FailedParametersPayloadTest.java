@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.features.memory;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+@RunWith(Parameterized.class)
+public class FailedParametersPayloadTest {
+
+	public static final int TEST_NUMBER = 100;
+	public static final int PAYLOAD_SIZE = 1024 * 1024;
+	public static final Queue<WeakReference<Throwable>> FAILURES = new ConcurrentLinkedQueue<>();
+
+	@Parameters
+	public static Object[] params() {
+		return IntStream.range(0, TEST_NUMBER).boxed().toArray();
+	}
+
+	private final int parameter;
+
+	public FailedParametersPayloadTest(int param) {
+		parameter = param;
+	}
+
+	@Test
+	public void testFailure() {
+		PayloadError error = new PayloadError("Test failure with a payload: " + parameter);
+		FAILURES.add(new WeakReference<>(error));
+		throw error;
+	}
+
+	public static class PayloadError extends AssertionError {
+		@SuppressWarnings({ "unused", "FieldCanBeLocal" })
+		private final byte[] payload = new byte[PAYLOAD_SIZE];
+
+		public PayloadError(String message) {
+			super(message);
+		}
+	}
+}
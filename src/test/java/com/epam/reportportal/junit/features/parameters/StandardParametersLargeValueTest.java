@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.features.parameters;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+@RunWith(Parameterized.class)
+public class StandardParametersLargeValueTest {
+
+	@Parameters
+	public static Iterable<Object[]> params() {
+		return Arrays.asList(
+				new Object[] { String.join("", Collections.nCopies(100_000, "a")) },
+				new Object[] { new byte[10 * 1024 * 1024] }
+		);
+	}
+
+	private final Object parameter;
+
+	public StandardParametersLargeValueTest(Object param) {
+		parameter = param;
+	}
+
+	@Test
+	public void testParameters() {
+		System.out.println("Parameter test: " + parameter.getClass().getSimpleName());
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.features.parameters;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(Parameterized.class)
+public class StandardParametersTwoMethodsTest {
+
+	public static final class CountingParameter {
+		public static final AtomicInteger TO_STRING_CALLS = new AtomicInteger();
+
+		private final String value;
+
+		public CountingParameter(String parameterValue) {
+			value = parameterValue;
+		}
+
+		@Override
+		public String toString() {
+			TO_STRING_CALLS.incrementAndGet();
+			return value;
+		}
+	}
+
+	@Parameters
+	public static Iterable<Object> params() {
+		return Arrays.asList(new CountingParameter("one"), new CountingParameter("two"));
+	}
+
+	private final CountingParameter parameter;
+
+	public StandardParametersTwoMethodsTest(CountingParameter param) {
+		parameter = param;
+	}
+
+	@Test
+	public void firstTest() {
+		System.out.println("First parameter test: " + parameter.value);
+	}
+
+	@Test
+	public void secondTest() {
+		System.out.println("Second parameter test: " + parameter.value);
+	}
+}
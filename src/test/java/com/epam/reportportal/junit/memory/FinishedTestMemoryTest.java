@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.memory;
+
+import com.epam.reportportal.junit.ReportPortalListener;
+import com.epam.reportportal.junit.features.memory.FailedParametersPayloadTest;
+import com.epam.reportportal.junit.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.junit.features.memory.FailedParametersPayloadTest.FAILURES;
+import static com.epam.reportportal.junit.features.memory.FailedParametersPayloadTest.TEST_NUMBER;
+import static com.epam.reportportal.junit.utils.TestUtils.PROCESSING_TIMEOUT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class FinishedTestMemoryTest {
+
+	private final String classId = CommonUtils.namedId("class_");
+	private final List<String> methodIds = Stream.generate(() -> CommonUtils.namedId("method_"))
+			.limit(TEST_NUMBER)
+			.collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executor = CommonUtils.testExecutor();
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, null, classId, methodIds);
+		TestUtils.mockBatchLogging(client);
+		ReportPortalListener.setReportPortal(ReportPortal.create(client, TestUtils.standardParameters(), executor));
+		FAILURES.clear();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		CommonUtils.shutdownExecutorService(executor);
+	}
+
+	private static long retainedFailures() {
+		return FAILURES.stream().map(Reference::get).filter(Objects::nonNull).count();
+	}
+
+	@Test
+	public void verify_failures_of_finished_tests_are_not_retained() throws InterruptedException {
+		TestUtils.runClasses(FailedParametersPayloadTest.class);
+		verify(client, timeout(PROCESSING_TIMEOUT)).finishTestItem(same(classId), any());
+		assertThat(FAILURES, hasSize(TEST_NUMBER));
+
+		long retained = retainedFailures();
+		for (int i = 0; i < 50 && retained > 1; i++) {
+			System.gc();
+			Thread.sleep(100);
+			retained = retainedFailures();
+		}
+
+		// only the last failure is still referenced, heap usage does not depend on the number of tests
+		assertThat(retained, lessThanOrEqualTo(1L));
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.memory;
+
+import com.epam.reportportal.junit.JUnitParameters;
+import com.epam.reportportal.junit.ParallelRunningContext;
+import com.epam.reportportal.junit.ReportPortalListener;
+import com.epam.reportportal.junit.features.suites.SuiteOfSuitesClass;
+import com.epam.reportportal.junit.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.junit.utils.TestUtils.PROCESSING_TIMEOUT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ItemTreePruneTest {
+	private static final int TEST_NUMBER = 2;
+
+	private final String firstSuiteId = CommonUtils.namedId("suite1_");
+	private final String secondSuiteId = CommonUtils.namedId("suite2_");
+	private final List<String> classIds = Stream.generate(() -> CommonUtils.namedId("class_"))
+			.limit(TEST_NUMBER)
+			.collect(Collectors.toList());
+	private final List<String> methodIds = Stream.generate(() -> CommonUtils.namedId("method_"))
+			.limit(TEST_NUMBER)
+			.collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executor = CommonUtils.testExecutor();
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockBatchLogging(client);
+		ReportPortalListener.setReportPortal(ReportPortal.create(client, TestUtils.standardParameters(), executor));
+		JUnitParameters parameters = new JUnitParameters();
+		parameters.setItemTreePrune(true);
+		ReportPortalListener.setJUnitParameters(parameters);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		ReportPortalListener.setJUnitParameters(new JUnitParameters());
+		CommonUtils.shutdownExecutorService(executor);
+	}
+
+	@Test
+	public void verify_finished_suites_are_removed_from_item_tree() {
+		List<Pair<String, String>> tests = IntStream.range(0, TEST_NUMBER)
+				.mapToObj(i -> Pair.of(classIds.get(i), methodIds.get(i)))
+				.collect(Collectors.toList());
+		TestUtils.mockLaunch(client, null, firstSuiteId, secondSuiteId, classIds);
+		TestUtils.mockNestedSteps(client, tests);
+
+		TestUtils.runClasses(SuiteOfSuitesClass.class);
+
+		verify(client, timeout(PROCESSING_TIMEOUT)).finishTestItem(ArgumentMatchers.startsWith(TestUtils.ROOT_SUITE_PREFIX), any());
+		verify(client, timeout(PROCESSING_TIMEOUT)).finishTestItem(same(firstSuiteId), any());
+		verify(client, timeout(PROCESSING_TIMEOUT)).finishTestItem(same(secondSuiteId), any());
+		classIds.forEach(id -> verify(client, timeout(PROCESSING_TIMEOUT)).finishTestItem(same(id), any()));
+		methodIds.forEach(id -> verify(client, timeout(PROCESSING_TIMEOUT)).finishTestItem(same(id), any()));
+
+		assertThat(ParallelRunningContext.getCurrent().getItemTree().getTestItems().entrySet(), empty());
+	}
+}
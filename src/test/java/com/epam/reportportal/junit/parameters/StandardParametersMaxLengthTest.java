@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.parameters;
+
+import com.epam.reportportal.junit.JUnitParameters;
+import com.epam.reportportal.junit.ReportPortalListener;
+import com.epam.reportportal.junit.features.parameters.StandardParametersLargeValueTest;
+import com.epam.reportportal.junit.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.junit.utils.TestUtils.PROCESSING_TIMEOUT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class StandardParametersMaxLengthTest {
+
+	private static final int MAX_LENGTH = 64;
+
+	private final String classId = CommonUtils.namedId("class_");
+	private final List<String> methodIds = Arrays.asList(CommonUtils.namedId("method_"), CommonUtils.namedId("method_"));
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executor = CommonUtils.testExecutor();
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, null, classId, methodIds);
+		TestUtils.mockBatchLogging(client);
+		ReportPortalListener.setReportPortal(ReportPortal.create(client, TestUtils.standardParameters(), executor));
+		JUnitParameters parameters = new JUnitParameters();
+		parameters.setParameterMaxLength(MAX_LENGTH);
+		ReportPortalListener.setJUnitParameters(parameters);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		ReportPortalListener.setJUnitParameters(new JUnitParameters());
+		CommonUtils.shutdownExecutorService(executor);
+	}
+
+	@Test
+	public void verify_large_parameter_values_are_truncated() {
+		TestUtils.runClasses(StandardParametersLargeValueTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> captor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, timeout(PROCESSING_TIMEOUT).times(2)).startTestItem(same(classId), captor.capture());
+
+		List<String> values = captor.getAllValues()
+				.stream()
+				.map(StartTestItemRQ::getParameters)
+				.peek(p -> assertThat(p, hasSize(1)))
+				.map(p -> p.get(0))
+				.map(ParameterResource::getValue)
+				.collect(Collectors.toList());
+		values.forEach(v -> assertThat(v.length(), equalTo(MAX_LENGTH)));
+		assertThat(values.get(0), allOf(Matchers.startsWith("aaaa"), Matchers.endsWith("...")));
+		assertThat(values.get(1), allOf(Matchers.startsWith("[0, 0, 0"), Matchers.endsWith("...")));
+	}
+}
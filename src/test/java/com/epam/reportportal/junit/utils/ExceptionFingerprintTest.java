@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ExceptionFingerprintTest {
+
+	private static StackTraceElement[] trace(int line) {
+		return new StackTraceElement[] { new StackTraceElement("com.example.Dao", "save", "Dao.java", line),
+				new StackTraceElement("com.example.Test", "test", "Test.java", 20) };
+	}
+
+	private static <T extends Throwable> T withTrace(T thrown, int line) {
+		thrown.setStackTrace(trace(line));
+		return thrown;
+	}
+
+	@Test
+	public void verify_messages_are_not_fingerprinted() {
+		String first = ExceptionFingerprint.of(withTrace(new IllegalStateException("user 1 not found"), 10));
+		String second = ExceptionFingerprint.of(withTrace(new IllegalStateException("user 2 not found"), 10));
+
+		assertThat(first, equalTo(second));
+		assertThat(first.length(), equalTo(32));
+	}
+
+	@Test
+	public void verify_types_frames_and_causes_are_fingerprinted() {
+		String base = ExceptionFingerprint.of(withTrace(new IllegalStateException("error"), 10));
+
+		assertThat(ExceptionFingerprint.of(withTrace(new IllegalArgumentException("error"), 10)), not(equalTo(base)));
+		assertThat(ExceptionFingerprint.of(withTrace(new IllegalStateException("error"), 11)), not(equalTo(base)));
+		assertThat(ExceptionFingerprint.of(withTrace(new IllegalStateException("error",
+				withTrace(new RuntimeException("cause"), 10)
+		), 10)), not(equalTo(base)));
+	}
+
+	@Test
+	public void verify_circular_cause_does_not_loop() {
+		RuntimeException error = withTrace(new RuntimeException("error"), 10);
+		RuntimeException cause = withTrace(new RuntimeException("cause", error), 10);
+		error.initCause(cause);
+
+		assertThat(ExceptionFingerprint.of(error), notNullValue());
+	}
+}
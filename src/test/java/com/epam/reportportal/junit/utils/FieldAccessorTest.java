@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FieldAccessorTest {
+
+	@SuppressWarnings({ "FieldCanBeLocal", "unused" })
+	private static class Parent {
+		private final Object[] parameters = new Object[] { "one", 2 };
+	}
+
+	private static class Child extends Parent {
+	}
+
+	@Test
+	public void verify_accessor_reads_private_field_of_a_superclass() throws NoSuchFieldException {
+		FieldAccessor accessor = new FieldAccessor("parameters");
+
+		assertThat(accessor.isPresent(Child.class), equalTo(Boolean.TRUE));
+		assertThat((Object[]) accessor.getValue(new Child()), arrayContaining("one", 2));
+	}
+
+	@Test
+	public void verify_accessor_throws_no_such_field_exception_for_a_missing_field() {
+		FieldAccessor accessor = new FieldAccessor("val$params");
+
+		assertThat(accessor.isPresent(Child.class), equalTo(Boolean.FALSE));
+		assertThrows(NoSuchFieldException.class, () -> accessor.getValue(new Child()));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.utils;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.runners.model.FrameworkMethod;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ItemTreeUtilsTest {
+
+	@SuppressWarnings("unused")
+	public void testMethod() {
+	}
+
+	private static FrameworkMethod method() throws NoSuchMethodException {
+		return new FrameworkMethod(ItemTreeUtilsTest.class.getMethod("testMethod"));
+	}
+
+	private static ParameterResource parameter(String key, String value) {
+		ParameterResource parameter = new ParameterResource();
+		parameter.setKey(key);
+		parameter.setValue(value);
+		return parameter;
+	}
+
+	@Test
+	public void verify_fingerprint_keys_are_equal_for_the_same_parameters() throws NoSuchMethodException {
+		TestItemTree.ItemTreeKey first = ItemTreeUtils.createFingerprintItemTreeKey(method(),
+				Arrays.asList(parameter("first", "one"), parameter("second", "two"))
+		);
+		TestItemTree.ItemTreeKey second = ItemTreeUtils.createFingerprintItemTreeKey(method(),
+				Arrays.asList(parameter("first", "one"), parameter("second", "two"))
+		);
+		assertThat(first, equalTo(second));
+		assertThat(first.hashCode(), equalTo(second.hashCode()));
+	}
+
+	@Test
+	public void verify_fingerprint_keys_differ_for_different_parameter_splits() throws NoSuchMethodException {
+		TestItemTree.ItemTreeKey joined = ItemTreeUtils.createFingerprintItemTreeKey(method(),
+				Collections.singletonList(parameter("param", "one,two"))
+		);
+		TestItemTree.ItemTreeKey split = ItemTreeUtils.createFingerprintItemTreeKey(method(),
+				Arrays.asList(parameter("param", "one"), parameter("param", "two"))
+		);
+		TestItemTree.ItemTreeKey nullValue = ItemTreeUtils.createFingerprintItemTreeKey(method(),
+				Collections.singletonList(parameter("param", null))
+		);
+		TestItemTree.ItemTreeKey noParameters = ItemTreeUtils.createFingerprintItemTreeKey(method(), null);
+		List<TestItemTree.ItemTreeKey> keys = Arrays.asList(joined, split, nullValue, noParameters);
+		assertThat(keys.stream().distinct().count(), equalTo((long) keys.size()));
+	}
+
+	@Test
+	public void verify_fingerprint_key_size_does_not_depend_on_parameter_size() throws NoSuchMethodException {
+		List<ParameterResource> small = Collections.singletonList(parameter("param", "value"));
+		List<ParameterResource> large = Collections.singletonList(parameter("param", StringUtils.repeat("value", 100_000)));
+
+		String smallKey = ItemTreeUtils.createFingerprintItemTreeKey(method(), small).getName();
+		String largeKey = ItemTreeUtils.createFingerprintItemTreeKey(method(), large).getName();
+
+		assertThat(largeKey, not(equalTo(smallKey)));
+		assertThat(largeKey.length(), equalTo(smallKey.length()));
+		assertThat(ItemTreeUtils.createItemTreeKey(method(), large).getName().length(), greaterThan(largeKey.length()));
+	}
+}
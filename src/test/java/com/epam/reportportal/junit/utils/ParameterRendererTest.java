@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ParameterRendererTest {
+
+	@Test
+	public void verify_short_values_are_rendered_as_is() {
+		ParameterRenderer renderer = new ParameterRenderer(100, 3);
+
+		assertThat(renderer.render(null), nullValue());
+		assertThat(renderer.render("one"), equalTo("one"));
+		assertThat(renderer.render(42), equalTo("42"));
+		assertThat(renderer.render(Arrays.asList("one", "two")), equalTo(Arrays.asList("one", "two").toString()));
+		assertThat(renderer.render(Collections.singletonMap("key", 1)), equalTo("{key=1}"));
+		assertThat(renderer.render(new int[] { 1, 2, 3 }), equalTo("[1, 2, 3]"));
+	}
+
+	@Test
+	public void verify_long_values_are_truncated() {
+		ParameterRenderer renderer = new ParameterRenderer(10, 3);
+
+		assertThat(renderer.render(String.join("", Collections.nCopies(100, "a"))), equalTo("aaaaaaa..."));
+		assertThat(renderer.render(new byte[1024 * 1024]), equalTo("[0, 0, ..."));
+		assertThat(renderer.render(Collections.nCopies(1000, "value")), equalTo("[value,..."));
+	}
+
+	@Test
+	public void verify_nested_values_deeper_than_limit_are_summarized() {
+		ParameterRenderer renderer = new ParameterRenderer(100, 1);
+		List<Object> value = Arrays.asList(new byte[5], new ArrayList<>(Arrays.asList(1, 2)), new HashMap<>());
+
+		assertThat(renderer.render(value), equalTo("[byte[5], ArrayList(size=2), HashMap(size=0)]"));
+	}
+
+	@Test
+	public void verify_rendered_values_are_cached_by_identity() {
+		ParameterRenderer renderer = new ParameterRenderer(100, 3);
+		List<String> value = new ArrayList<>(Collections.singletonList("one"));
+
+		String first = renderer.render(value);
+		value.add("two");
+
+		assertThat(renderer.render(value), sameInstance(first));
+		assertThat(renderer.render(new ArrayList<>(value)), equalTo("[one, two]"));
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StackTraceCompactorTest {
+
+	private static StackTraceElement frame(String className) {
+		return new StackTraceElement(className, "method", className.substring(className.lastIndexOf('.') + 1) + ".java", 10);
+	}
+
+	private static StackTraceElement[] trace(String... classNames) {
+		return Arrays.stream(classNames).map(StackTraceCompactorTest::frame).toArray(StackTraceElement[]::new);
+	}
+
+	@Test
+	public void verify_excluded_frames_are_folded() {
+		RuntimeException error = new RuntimeException("error");
+		error.setStackTrace(trace("com.example.Test", "jdk.internal.reflect.Method", "java.lang.reflect.Method",
+				"org.junit.runners.ParentRunner", "com.example.Helper"
+		));
+
+		String result = new StackTraceCompactor(Collections.emptyList(), StackTraceCompactor.DEFAULT_EXCLUDES, 0).compact(error);
+
+		assertThat(result,
+				equalTo("java.lang.RuntimeException: error\n" + "\tat com.example.Test.method(Test.java:10)\n" + "\t... 3 filtered\n"
+						+ "\tat com.example.Helper.method(Helper.java:10)\n")
+		);
+	}
+
+	@Test
+	public void verify_included_frames_override_excludes() {
+		RuntimeException error = new RuntimeException("error");
+		error.setStackTrace(trace("com.example.Test", "org.junit.runners.ParentRunner", "org.junit.runners.Suite"));
+
+		String result = new StackTraceCompactor(Collections.singletonList("org.junit.runners.Suite"),
+				StackTraceCompactor.DEFAULT_EXCLUDES,
+				0
+		).compact(error);
+
+		assertThat(result,
+				equalTo("java.lang.RuntimeException: error\n" + "\tat com.example.Test.method(Test.java:10)\n" + "\t... 1 filtered\n"
+						+ "\tat org.junit.runners.Suite.method(Suite.java:10)\n")
+		);
+	}
+
+	@Test
+	public void verify_cause_frames_in_common_are_folded() {
+		IllegalStateException cause = new IllegalStateException("cause");
+		cause.setStackTrace(trace("com.example.Dao", "com.example.Service", "com.example.Test", "org.junit.runners.ParentRunner"));
+		RuntimeException error = new RuntimeException("error", cause);
+		error.setStackTrace(trace("com.example.Service", "com.example.Test", "org.junit.runners.ParentRunner"));
+
+		String result = new StackTraceCompactor(Collections.emptyList(), StackTraceCompactor.DEFAULT_EXCLUDES, 0).compact(error);
+
+		assertThat(result,
+				equalTo("java.lang.RuntimeException: error\n" + "\tat com.example.Service.method(Service.java:10)\n"
+						+ "\tat com.example.Test.method(Test.java:10)\n" + "\t... 1 filtered\n"
+						+ "Caused by: java.lang.IllegalStateException: cause\n" + "\tat com.example.Dao.method(Dao.java:10)\n"
+						+ "\t... 3 more\n")
+		);
+	}
+
+	@Test
+	public void verify_trace_depth_is_limited() {
+		RuntimeException error = new RuntimeException("error");
+		error.setStackTrace(trace("com.example.A", "com.example.B", "com.example.C", "com.example.D"));
+
+		String result = new StackTraceCompactor(Collections.emptyList(), Collections.emptyList(), 2).compact(error);
+
+		assertThat(result,
+				equalTo("java.lang.RuntimeException: error\n" + "\tat com.example.A.method(A.java:10)\n"
+						+ "\tat com.example.B.method(B.java:10)\n" + "\t... 2 frames truncated\n")
+		);
+	}
+
+	@Test
+	public void verify_suppressed_and_circular_causes_are_rendered() {
+		RuntimeException error = new RuntimeException("error");
+		error.setStackTrace(trace("com.example.Test"));
+		IllegalStateException suppressed = new IllegalStateException("suppressed");
+		suppressed.setStackTrace(trace("com.example.Resource", "com.example.Test"));
+		error.addSuppressed(suppressed);
+		IllegalArgumentException cause = new IllegalArgumentException("cause", error);
+		cause.setStackTrace(new StackTraceElement[0]);
+		error.initCause(cause);
+
+		String result = new StackTraceCompactor(Collections.emptyList(), Collections.emptyList(), 0).compact(error);
+
+		assertThat(result,
+				equalTo("java.lang.RuntimeException: error\n" + "\tat com.example.Test.method(Test.java:10)\n"
+						+ "\tSuppressed: java.lang.IllegalStateException: suppressed\n" + "\t\tat com.example.Resource.method(Resource.java:10)\n"
+						+ "\t\t... 1 more\n" + "Caused by: java.lang.IllegalArgumentException: cause\n"
+						+ "Caused by: [CIRCULAR REFERENCE: java.lang.RuntimeException: error]\n")
+		);
+	}
+}
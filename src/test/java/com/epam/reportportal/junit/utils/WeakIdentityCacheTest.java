@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class WeakIdentityCacheTest {
+
+	@Test
+	public void verify_value_is_calculated_once_per_object_identity() {
+		WeakIdentityCache<String> cache = new WeakIdentityCache<>();
+		AtomicInteger calls = new AtomicInteger();
+		List<String> first = new ArrayList<>();
+		List<String> second = new ArrayList<>();
+
+		String firstValue = cache.computeIfAbsent(first, o -> "first-" + calls.incrementAndGet());
+		assertThat(cache.computeIfAbsent(first, o -> "first-" + calls.incrementAndGet()), sameInstance(firstValue));
+		// equal, but not the same object
+		assertThat(cache.computeIfAbsent(second, o -> "second-" + calls.incrementAndGet()), equalTo("second-2"));
+
+		assertThat(calls.get(), equalTo(2));
+		assertThat(cache.get(first), equalTo("first-1"));
+		assertThat(cache.size(), equalTo(2));
+	}
+}